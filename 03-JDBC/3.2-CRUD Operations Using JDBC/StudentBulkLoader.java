@@ -0,0 +1,257 @@
+/*
+This code is a template for bulk loading the STUDENT table using JDBC.
+
+- !!IMPORTANT Make sure to  configure JDBC SQL Driver Connector before  running  this code.
+
+
+- Copy this code to your actual created project in your IDE.
+- Loads tables shaped like CRUDOps' STUDENT(sID INT PRIMARY KEY, sName VARCHAR(20), CGPA FLOAT).
+- The benchmark in main() never touches STUDENT: it creates a scratch STUDENT_BULK table, empties it
+  before each run and drops it at the end.
+- LOAD DATA LOCAL INFILE needs allowLoadLocalInfile=true in the MySQL URL and local_infile=ON on the server.
+
+Run it against MySQL or H2 (add the H2 jar) and compare the timings:
+	java StudentBulkLoader "jdbc:mysql://localhost:3306/<DATABASE_NAME>?allowLoadLocalInfile=true" <USERNAME> <PASSWORD> 100000
+	java StudentBulkLoader "jdbc:h2:mem:demo;MODE=MySQL" sa "" 100000
+
+*/
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+public class StudentBulkLoader {
+
+	public record Student(int id, String name, float cgpa) {
+	}
+
+	// scratch table used by the benchmark, so CRUDOps' STUDENT data is never deleted
+	private static final String BENCHMARK_TABLE = "STUDENT_BULK";
+	private static final int MAX_PLACEHOLDERS = 65_535;
+	private static final int DEFAULT_PACKET_SIZE = 4 * 1024 * 1024;
+
+	private final Connection cn;
+	private final String table;
+	private final String insert;
+	private final String multiInsert;
+	private final int maxPacketSize;
+
+	public StudentBulkLoader(Connection cn) throws SQLException {
+		this(cn, "STUDENT");
+	}
+
+	public StudentBulkLoader(Connection cn, String table) throws SQLException {
+		if (!table.matches("[A-Za-z_][A-Za-z0-9_]*")) {
+			throw new IllegalArgumentException("Not a plain table name - " + table);
+		}
+		this.cn = cn;
+		this.table = table;
+		this.insert = "INSERT INTO " + table + " VALUES(?, ?, ?)";
+		this.multiInsert = "INSERT INTO " + table + " VALUES";
+		this.maxPacketSize = readMaxPacketSize(cn);
+	}
+
+	// ------------- Row by Row (baseline) -------------
+	public int insertRowByRow(List<Student> students) throws SQLException {
+		int rows = 0;
+		try (PreparedStatement ps = cn.prepareStatement(insert)) {
+			for (Student s : students) {
+				bind(ps, 1, s);
+				rows += ps.executeUpdate();
+			}
+		}
+		return rows;
+	}
+
+	/*
+	 * Rewrites the rows into INSERT ... VALUES (?,?,?),(?,?,?) ... statements.
+	 * A statement is closed off before it would pass ~90% of max_allowed_packet
+	 * or the driver's placeholder limit; the full-size statement is prepared
+	 * once and reused for every full chunk.
+	 */
+	public int insertMultiRow(List<Student> students) throws SQLException {
+		int maxRows = MAX_PLACEHOLDERS / 3;
+		long packetBudget = (long) (maxPacketSize * 0.9);
+		int rows = 0;
+		int from = 0;
+		PreparedStatement full = null;
+		int fullSize = -1;
+		try {
+			while (from < students.size()) {
+				int to = from;
+				long bytes = multiInsert.length();
+				while (to < students.size() && to - from < maxRows) {
+					long rowBytes = estimateBytes(students.get(to));
+					if (to > from && bytes + rowBytes > packetBudget) {
+						break;
+					}
+					bytes += rowBytes;
+					to++;
+				}
+				int count = to - from;
+				if (count == fullSize) {
+					rows += executeChunk(full, students, from, to);
+				} else if (fullSize == -1) {
+					fullSize = count;
+					full = cn.prepareStatement(multiInsertSql(count));
+					rows += executeChunk(full, students, from, to);
+				} else {
+					try (PreparedStatement tail = cn.prepareStatement(multiInsertSql(count))) {
+						rows += executeChunk(tail, students, from, to);
+					}
+				}
+				from = to;
+			}
+		} finally {
+			if (full != null) {
+				full.close();
+			}
+		}
+		return rows;
+	}
+
+	/*
+	 * Streams the rows as tab-separated text into LOAD DATA LOCAL INFILE, using
+	 * Connector/J's setLocalInfileInputStream so no temporary file is written.
+	 * Returns -1 when the driver does not support it (e.g. H2).
+	 */
+	public int loadDataLocal(List<Student> students) throws SQLException {
+		StringBuilder tsv = new StringBuilder(students.size() * 24);
+		for (Student s : students) {
+			tsv.append(s.id()).append('\t').append(escapeTsv(s.name())).append('\t').append(s.cgpa()).append('\n');
+		}
+		InputStream in = new ByteArrayInputStream(tsv.toString().getBytes(StandardCharsets.UTF_8));
+
+		try (Statement st = cn.createStatement()) {
+			Method setStream;
+			Object mysqlStatement;
+			try {
+				Class<?> type = Class.forName("com.mysql.cj.jdbc.JdbcStatement");
+				if (!st.isWrapperFor(type)) {
+					return -1;
+				}
+				mysqlStatement = st.unwrap(type);
+				setStream = type.getMethod("setLocalInfileInputStream", InputStream.class);
+			} catch (ClassNotFoundException | NoSuchMethodException e) {
+				return -1;
+			}
+			try {
+				setStream.invoke(mysqlStatement, in);
+			} catch (ReflectiveOperationException e) {
+				throw new SQLException("Unable to attach LOAD DATA input stream", e);
+			}
+			return st.executeUpdate("LOAD DATA LOCAL INFILE 'students.tsv' INTO TABLE " + table + " "
+					+ "CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' LINES TERMINATED BY '\\n' (sID, sName, CGPA)");
+		}
+	}
+
+	private static int executeChunk(PreparedStatement ps, List<Student> students, int from, int to)
+			throws SQLException {
+		int index = 1;
+		for (int i = from; i < to; i++) {
+			bind(ps, index, students.get(i));
+			index += 3;
+		}
+		return ps.executeUpdate();
+	}
+
+	private static void bind(PreparedStatement ps, int index, Student s) throws SQLException {
+		ps.setInt(index, s.id());
+		ps.setString(index + 1, s.name());
+		ps.setFloat(index + 2, s.cgpa());
+	}
+
+	private String multiInsertSql(int rows) {
+		StringBuilder sql = new StringBuilder(multiInsert.length() + rows * 10);
+		sql.append(multiInsert);
+		for (int i = 0; i < rows; i++) {
+			sql.append(i == 0 ? "(?,?,?)" : ",(?,?,?)");
+		}
+		return sql.toString();
+	}
+
+	// bytes the row takes in the client-side rewritten statement: "(id,'name',cgpa),"
+	private static long estimateBytes(Student s) {
+		return 32 + s.name().length() * 4L;
+	}
+
+	private static String escapeTsv(String value) {
+		return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+	}
+
+	private static int readMaxPacketSize(Connection cn) {
+		try (Statement st = cn.createStatement();
+				ResultSet rs = st.executeQuery("SHOW VARIABLES LIKE 'max_allowed_packet'")) {
+			if (rs.next()) {
+				return rs.getInt(2);
+			}
+		} catch (SQLException e) {
+			// not MySQL (e.g. H2): fall back to the MySQL default
+		}
+		return DEFAULT_PACKET_SIZE;
+	}
+
+	// ------------- Benchmark -------------
+	private interface Loader {
+		int load(List<Student> students) throws SQLException;
+	}
+
+	private static void time(Connection cn, String name, Loader loader, List<Student> students)
+			throws SQLException {
+		try (Statement st = cn.createStatement()) {
+			st.executeUpdate("DELETE FROM " + BENCHMARK_TABLE);
+		}
+		cn.commit();
+		long start = System.nanoTime();
+		int rows = loader.load(students);
+		cn.commit();
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+		if (rows < 0) {
+			System.out.println(name + "\tnot supported by this driver");
+		} else {
+			System.out.printf("%s\t%d rows\t%.2f s\t%.0f rows/sec%n", name, rows, seconds, rows / seconds);
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		String url = args.length > 0 ? args[0] : "jdbc:mysql://localhost:3306/<DATABASE_NAME>?allowLoadLocalInfile=true";
+		String uname = args.length > 1 ? args[1] : "<USERNAME>";
+		String pwd = args.length > 2 ? args[2] : "<PASSWORD>";
+		int count = args.length > 3 ? Integer.parseInt(args[3]) : 100_000;
+
+		Connection cn = DriverManager.getConnection(url, uname, pwd);
+		cn.setAutoCommit(false);
+		try (Statement st = cn.createStatement()) {
+			st.executeUpdate("DROP TABLE IF EXISTS " + BENCHMARK_TABLE);
+			st.executeUpdate("CREATE TABLE " + BENCHMARK_TABLE + "(sID INT PRIMARY KEY, sName VARCHAR(20), CGPA FLOAT)");
+		}
+
+		List<Student> students = new ArrayList<>(count);
+		for (int i = 1; i <= count; i++) {
+			students.add(new Student(i, "Student" + i, 5 + (i % 50) / 10.0f));
+		}
+
+		try {
+			StudentBulkLoader loader = new StudentBulkLoader(cn, BENCHMARK_TABLE);
+			System.out.println("max_allowed_packet: " + loader.maxPacketSize + " bytes");
+			time(cn, "Row by row", loader::insertRowByRow, students);
+			time(cn, "Multi-row VALUES", loader::insertMultiRow, students);
+			time(cn, "LOAD DATA LOCAL", loader::loadDataLocal, students);
+		} finally {
+			cn.rollback();
+			try (Statement st = cn.createStatement()) {
+				st.executeUpdate("DROP TABLE IF EXISTS " + BENCHMARK_TABLE);
+			}
+			cn.close();
+		}
+	}
+}
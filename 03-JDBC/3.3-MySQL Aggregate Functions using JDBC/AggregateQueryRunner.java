@@ -0,0 +1,193 @@
+/*
+This code is a template for running several aggregate queries in parallel using JDBC.
+
+- !!IMPORTANT Make sure to  configure JDBC SQL Driver Connector before  running  this code.
+
+
+- Copy this code to your actual created project in your IDE.
+- Also before running, make sure you are using correct credentials for mysql connection .
+- Uses the same STUDENT(sID, sName, CGPA) table as AggFunc.
+
+*/
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Runs independent aggregate queries at the same time, each on its own pooled
+ * connection, so a page that needs a dozen aggregates waits for the slowest
+ * one instead of the sum of all of them.
+ *
+ * Results are cached for ttlMillis, keyed by the SQL text and the row type,
+ * so a Query rebuilt on every page load still hits the cache, while the same
+ * SQL mapped to a different type never gets rows of the wrong one. Queries
+ * with equal SQL and type are expected to map rows the same way. The cache
+ * stores the future itself, so identical queries submitted while one is still
+ * running share that single execution.
+ */
+public class AggregateQueryRunner implements AutoCloseable {
+
+	@FunctionalInterface
+	public interface RowMapper<T> {
+		T map(ResultSet rs) throws SQLException;
+	}
+
+	public record Query<T>(String sql, Class<T> type, RowMapper<T> mapper) {
+	}
+
+	private record CacheKey(String sql, Class<?> type) {
+	}
+
+	private record CachedResult(long expiresAt, CompletableFuture<List<?>> result) {
+	}
+
+	// ------------- Typed Result Records -------------
+	public record CgpaSummary(int count, double min, double max, double avg, double sum) {
+	}
+
+	public record CgpaBand(int band, int count, double avg) {
+	}
+
+	private final List<Connection> allConnections = new ArrayList<>();
+	private final BlockingQueue<Connection> connections;
+	private final ExecutorService executor;
+	private final long ttlMillis;
+	private final Map<CacheKey, CachedResult> cache = new ConcurrentHashMap<>();
+
+	public AggregateQueryRunner(String url, String uname, String pwd, int poolSize, long ttlMillis)
+			throws SQLException {
+		this.connections = new ArrayBlockingQueue<>(poolSize);
+		for (int i = 0; i < poolSize; i++) {
+			Connection cn = DriverManager.getConnection(url, uname, pwd);
+			allConnections.add(cn);
+			connections.add(cn);
+		}
+		this.executor = Executors.newFixedThreadPool(poolSize);
+		this.ttlMillis = ttlMillis;
+	}
+
+	// the cast is safe: the key includes the type of the cached rows
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<List<T>> submit(Query<T> query) {
+		long now = System.currentTimeMillis();
+		cache.values().removeIf(entry -> entry.expiresAt() <= now);
+		CachedResult cached = cache.compute(new CacheKey(query.sql(), query.type()), (key, existing) -> {
+			if (existing != null && existing.expiresAt() > now
+					&& !existing.result().isCompletedExceptionally()) {
+				return existing;
+			}
+			CompletableFuture<List<?>> result = CompletableFuture.supplyAsync(() -> execute(query), executor);
+			return new CachedResult(now + ttlMillis, result);
+		});
+		return (CompletableFuture<List<T>>) (CompletableFuture<?>) cached.result();
+	}
+
+	public void invalidate() {
+		cache.clear();
+	}
+
+	// lets running queries finish before closing every connection, idle or not
+	@Override
+	public void close() throws SQLException {
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+				executor.shutdownNow();
+				executor.awaitTermination(5, TimeUnit.SECONDS);
+			}
+		} catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+		for (Connection cn : allConnections) {
+			cn.close();
+		}
+	}
+
+	private <T> List<T> execute(Query<T> query) {
+		Connection cn = null;
+		try {
+			cn = connections.take();
+			try (PreparedStatement ps = cn.prepareStatement(query.sql()); ResultSet rs = ps.executeQuery()) {
+				List<T> rows = new ArrayList<>();
+				while (rs.next()) {
+					rows.add(query.mapper().map(rs));
+				}
+				return rows;
+			}
+		} catch (SQLException e) {
+			throw new CompletionException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CompletionException(e);
+		} finally {
+			if (cn != null) {
+				connections.add(cn);
+			}
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		// ------------- Step 1: Loading Drivers -------------
+		Class.forName("com.mysql.cj.jdbc.Driver");
+
+		// ------------- Step 2: Creating the Runner (pool of 4, 5 second cache)-------------
+		String url = "jdbc:mysql://localhost:3306/<DATABASE_NAME>";
+		String uname = "<USERNAME>";
+		String pwd = "<PASSWORD>";
+
+		try (AggregateQueryRunner runner = new AggregateQueryRunner(url, uname, pwd, 4, 5_000)) {
+
+			// ------------- Step 3: Submitting Queries Together-------------
+			long start = System.nanoTime();
+			CompletableFuture<List<CgpaSummary>> summary = runner.submit(new Query<>(
+					"SELECT COUNT(*), MIN(CGPA), MAX(CGPA), AVG(CGPA), SUM(CGPA) FROM STUDENT", CgpaSummary.class,
+					rs -> new CgpaSummary(rs.getInt(1), rs.getDouble(2), rs.getDouble(3), rs.getDouble(4),
+							rs.getDouble(5))));
+			CompletableFuture<List<CgpaBand>> bands = runner.submit(new Query<>(
+					"SELECT FLOOR(CGPA), COUNT(*), AVG(CGPA) FROM STUDENT GROUP BY FLOOR(CGPA) ORDER BY 1",
+					CgpaBand.class,
+					rs -> new CgpaBand(rs.getInt(1), rs.getInt(2), rs.getDouble(3))));
+			CompletableFuture<List<Integer>> aboveEight = runner.submit(
+					new Query<>("SELECT COUNT(*) FROM STUDENT WHERE CGPA >= 8", Integer.class, rs -> rs.getInt(1)));
+
+			// ------------- Step 4: Waiting for All Results-------------
+			CompletableFuture.allOf(summary, bands, aboveEight).join();
+			System.out.printf("All aggregates in %.1f ms%n", (System.nanoTime() - start) / 1_000_000.0);
+
+			CgpaSummary s = summary.join().get(0);
+			System.out.println("Student'sCount\tMIN(CGPA)\tMAX(CGPA)\tAVG(CGPA)\tSUM(CGPA)");
+			System.out.println(s.count() + "\t\t" + s.min() + "\t\t" + s.max() + "\t\t" + s.avg() + "\t" + s.sum());
+
+			System.out.println("CGPA Band\tCount\tAVG(CGPA)");
+			for (CgpaBand band : bands.join()) {
+				System.out.println(band.band() + "\t\t" + band.count() + "\t" + band.avg());
+			}
+			System.out.println("Students with CGPA >= 8: " + aboveEight.join().get(0));
+
+			// ------------- Step 5: Identical Query Served from Cache-------------
+			start = System.nanoTime();
+			runner.submit(
+					new Query<>("SELECT COUNT(*) FROM STUDENT WHERE CGPA >= 8", Integer.class, rs -> rs.getInt(1)))
+					.join();
+			System.out.printf("Cached aggregate in %.3f ms%n", (System.nanoTime() - start) / 1_000_000.0);
+		}
+
+		System.out.println("------------- Connection Closed -------------");
+	}
+
+}
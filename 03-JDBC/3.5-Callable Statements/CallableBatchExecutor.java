@@ -0,0 +1,189 @@
+/*
+This code is a template for reusing and batching Callable Statements using JDBC.
+
+- !!IMPORTANT Make sure to  configure JDBC SQL Driver Connector before  running  this code.
+
+
+- Copy this code to your actual created project in your IDE.
+- Also before running, make sure you are using correct credentials for mysql connection .
+- Uses the same add_ab function as CallableStmDemo, plus an IN-only procedure:
+
+	CREATE PROCEDURE add_student(IN id INT, IN name VARCHAR(20), IN cgpa FLOAT)
+	INSERT INTO STUDENT VALUES(id, name, cgpa);
+
+*/
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Keeps one prepared CallableStatement per call signature (the "{call ...}"
+ * string) for the life of the connection.
+ *
+ * - callAll() runs a procedure or function once per input row, registers the
+ *   OUT parameters only when the statement is first prepared and maps every
+ *   call into a record.
+ * - executeBatch() sends IN-only procedure calls with addBatch/executeBatch,
+ *   batchSize calls per round trip.
+ */
+public class CallableBatchExecutor implements AutoCloseable {
+
+	@FunctionalInterface
+	public interface OutMapper<R> {
+		R map(Object[] inputs, CallableStatement cst) throws SQLException;
+	}
+
+	/*
+	 * A call signature: the SQL, the position and JDBC type of each OUT
+	 * parameter, and how to turn a finished call into a result. Every other
+	 * '?' is an IN parameter, filled from the input row in order.
+	 */
+	public record Procedure<R>(String sql, int[] outIndexes, int[] outTypes, OutMapper<R> mapper) {
+
+		public static Procedure<Void> inOnly(String sql) {
+			return new Procedure<>(sql, new int[0], new int[0], (inputs, cst) -> null);
+		}
+	}
+
+	private final Connection cn;
+	private final int batchSize;
+	private final Map<String, CallableStatement> statements = new HashMap<>();
+	private final Map<String, int[]> inIndexes = new HashMap<>();
+
+	public CallableBatchExecutor(Connection cn, int batchSize) {
+		this.cn = cn;
+		this.batchSize = batchSize;
+	}
+
+	public <R> List<R> callAll(Procedure<R> procedure, List<Object[]> inputs) throws SQLException {
+		CallableStatement cst = prepare(procedure);
+		int[] ins = inIndexes.get(procedure.sql());
+		List<R> results = new ArrayList<>(inputs.size());
+		for (Object[] row : inputs) {
+			bind(cst, ins, row);
+			cst.execute();
+			results.add(procedure.mapper().map(row, cst));
+		}
+		return results;
+	}
+
+	public int executeBatch(Procedure<Void> procedure, List<Object[]> inputs) throws SQLException {
+		if (procedure.outIndexes().length > 0) {
+			throw new SQLException("Procedures with OUT parameters cannot be batched: " + procedure.sql());
+		}
+		CallableStatement cst = prepare(procedure);
+		int[] ins = inIndexes.get(procedure.sql());
+		int calls = 0;
+		int pending = 0;
+		for (Object[] row : inputs) {
+			bind(cst, ins, row);
+			cst.addBatch();
+			if (++pending == batchSize) {
+				calls += cst.executeBatch().length;
+				pending = 0;
+			}
+		}
+		if (pending > 0) {
+			calls += cst.executeBatch().length;
+		}
+		return calls;
+	}
+
+	@Override
+	public void close() throws SQLException {
+		for (CallableStatement cst : statements.values()) {
+			cst.close();
+		}
+		statements.clear();
+		inIndexes.clear();
+	}
+
+	private CallableStatement prepare(Procedure<?> procedure) throws SQLException {
+		CallableStatement cst = statements.get(procedure.sql());
+		if (cst != null) {
+			return cst;
+		}
+		cst = cn.prepareCall(procedure.sql());
+		for (int i = 0; i < procedure.outIndexes().length; i++) {
+			cst.registerOutParameter(procedure.outIndexes()[i], procedure.outTypes()[i]);
+		}
+		statements.put(procedure.sql(), cst);
+		inIndexes.put(procedure.sql(), inParameterIndexes(procedure));
+		return cst;
+	}
+
+	private static int[] inParameterIndexes(Procedure<?> procedure) {
+		int markers = 0;
+		for (char c : procedure.sql().toCharArray()) {
+			if (c == '?') {
+				markers++;
+			}
+		}
+		List<Integer> ins = new ArrayList<>();
+		outer: for (int i = 1; i <= markers; i++) {
+			for (int out : procedure.outIndexes()) {
+				if (out == i) {
+					continue outer;
+				}
+			}
+			ins.add(i);
+		}
+		return ins.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private static void bind(CallableStatement cst, int[] ins, Object[] row) throws SQLException {
+		if (row.length != ins.length) {
+			throw new SQLException("Expected " + ins.length + " IN parameters but got " + row.length);
+		}
+		for (int i = 0; i < ins.length; i++) {
+			cst.setObject(ins[i], row[i]);
+		}
+	}
+
+	// ------------- Result Record -------------
+	public record Sum(int a, int b, int sum) {
+	}
+
+	public static void main(String[] args) throws Exception {
+		Class.forName("com.mysql.cj.jdbc.Driver");
+		String urlString = "jdbc:mysql://localhost:3306/<DATABASE_NAME>";
+		String uname = "<USERNAME>";
+		String pwd = "<PASSWORD>";
+		Connection cn = DriverManager.getConnection(urlString, uname, pwd);
+
+		try (CallableBatchExecutor executor = new CallableBatchExecutor(cn, 500)) {
+
+			// Calling Stored Function many times with one prepared statement
+			Procedure<Sum> addAb = new Procedure<>("{? = call add_ab(?,?)}", new int[] { 1 },
+					new int[] { Types.INTEGER }, (in, cst) -> new Sum((int) in[0], (int) in[1], cst.getInt(1)));
+			List<Object[]> pairs = new ArrayList<>();
+			for (int i = 1; i <= 5; i++) {
+				pairs.add(new Object[] { i * 100, i * 11 });
+			}
+			for (Sum sum : executor.callAll(addAb, pairs)) {
+				System.out.println(sum.a() + " + " + sum.b() + " = " + sum.sum());
+			}
+
+			// Batching IN-only Stored Procedure calls
+			cn.setAutoCommit(false);
+			List<Object[]> students = new ArrayList<>();
+			for (int i = 0; i < 2_000; i++) {
+				students.add(new Object[] { 10_000 + i, "Student" + i, 5 + (i % 50) / 10.0f });
+			}
+			long start = System.nanoTime();
+			int calls = executor.executeBatch(Procedure.inOnly("{call add_student(?,?,?)}"), students);
+			cn.commit();
+			System.out.printf("%d procedure calls in %.1f ms%n", calls, (System.nanoTime() - start) / 1_000_000.0);
+		}
+
+		cn.close();
+
+	}
+}
@@ -25,8 +25,7 @@ public class TransactionManagement {
 		} else {
 			System.out.println("#Connection Failure");
 		}
-		// ------------- Step 4: Setting AUTOCOMMIT = FALSE-------------
-		cn.setAutoCommit(false);
+		// ------------- Step 4: Reading Transfer Details-------------
 		System.out.println("Enter Source Account: ");
 		int src = in.nextInt();
 		System.out.println("Enter Destination Account: ");
@@ -35,37 +34,18 @@ public class TransactionManagement {
 		double amount = in.nextDouble();
 
 		// ------------- Step 5: Atomic TCL Transfer -------------
-		Statement st = cn.createStatement();
-		String withdraw = "UPDATE ACCOUNT SET balance = balance-" + amount + " WHERE account_number = " + src;
-		// batch processing
-		st.addBatch(withdraw);
-		String deposite = "UPDATE ACCOUNT SET balance = balance+" + amount + " WHERE account_number = " + dst;
-		st.addBatch(deposite);
-
-		// execute the batch
-		int[] res = st.executeBatch();
-
-		// logic for commit and Rollback
-		boolean flag = false;
-
-		for (int i = 0; i < res.length; i++) {
-			if (res[i] == 0) {
-				// query failed and need to ROLLBACK
-				flag = true;
-				break;
-			}
-
-		}
+		// TransferService turns AUTOCOMMIT off, locks both rows and commits or rolls back
+		TransferService service = new TransferService();
+		TransferService.Result result = service.transfer(cn, src, dst, amount);
 
-		if (flag == true) {
-			cn.rollback();
-			System.out.println("#Transaction Failed --Rolling Back");
-		} else {
-			cn.commit();
+		if (result == TransferService.Result.COMMITTED) {
 			System.out.println("#Transaction Successfull --Commitng Changes");
+		} else {
+			System.out.println("#Transaction Failed --Rolling Back");
 		}
 
 		// ------------- Step 6: Displaying Final Table-------------
+		Statement st = cn.createStatement();
 		ResultSet rs = st.executeQuery("SELECT * FROM ACCOUNT");
 		while (rs.next()) {
 			System.out.println(rs.getInt(1) + "\t" + rs.getDouble(2) + "\t" + rs.getString(3));
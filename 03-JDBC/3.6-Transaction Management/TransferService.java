@@ -0,0 +1,213 @@
+/*
+This code is a template for a safe, high-throughput money transfer using JDBC transactions.
+
+- !!IMPORTANT Make sure to  configure JDBC SQL Driver Connector before  running  this code.
+
+- Copy this code (together with TransactionManagement.java) to your actual created project in your IDE.
+- Also before running, make sure you are using correct credentials for mysql connection .
+- Uses the same ACCOUNT(account_number, balance, account_type) table as TransactionManagement.
+
+Run it with a transfers file, one transfer per line:  <source>,<destination>,<amount>
+	java TransferService transfers.csv 8
+
+*/
+
+import java.io.BufferedReader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TransferService {
+
+	public enum Result {
+		COMMITTED, REJECTED, FAILED
+	}
+
+	private static final String LOCK = "SELECT balance FROM ACCOUNT WHERE account_number = ? FOR UPDATE";
+	private static final String WITHDRAW = "UPDATE ACCOUNT SET balance = balance - ? WHERE account_number = ?";
+	private static final String DEPOSIT = "UPDATE ACCOUNT SET balance = balance + ? WHERE account_number = ?";
+
+	private static final int MAX_ATTEMPTS = 5;
+	private static final long BASE_BACKOFF_MS = 10;
+
+	private final AtomicLong retries = new AtomicLong();
+
+	/*
+	 * Moves amount from src to dst in one transaction.
+	 *
+	 * - Both rows are locked with SELECT ... FOR UPDATE in ascending account
+	 *   number order, so two opposite transfers can never wait on each other.
+	 * - The transfer is REJECTED (and rolled back) when an account is missing,
+	 *   src == dst, the amount is not positive or the balance is too low.
+	 * - Deadlocks, lock wait timeouts and serialization failures are retried
+	 *   with exponential backoff and jitter.
+	 */
+	public Result transfer(Connection cn, int src, int dst, double amount) throws SQLException {
+		if (src == dst || amount <= 0) {
+			return Result.REJECTED;
+		}
+		cn.setAutoCommit(false);
+
+		for (int attempt = 1;; attempt++) {
+			try {
+				Result result = transferOnce(cn, src, dst, amount);
+				if (result == Result.COMMITTED) {
+					cn.commit();
+				} else {
+					cn.rollback();
+				}
+				return result;
+			} catch (SQLException e) {
+				cn.rollback();
+				if (!isRetryable(e) || attempt == MAX_ATTEMPTS) {
+					throw e;
+				}
+				retries.incrementAndGet();
+				backoff(attempt);
+			}
+		}
+	}
+
+	public long getRetries() {
+		return retries.get();
+	}
+
+	private Result transferOnce(Connection cn, int src, int dst, double amount) throws SQLException {
+		int first = Math.min(src, dst);
+		int second = Math.max(src, dst);
+
+		try (PreparedStatement lock = cn.prepareStatement(LOCK)) {
+			Double firstBalance = lockBalance(lock, first);
+			Double secondBalance = lockBalance(lock, second);
+			if (firstBalance == null || secondBalance == null) {
+				return Result.REJECTED;
+			}
+			double srcBalance = src == first ? firstBalance : secondBalance;
+			if (srcBalance < amount) {
+				return Result.REJECTED;
+			}
+		}
+
+		try (PreparedStatement withdraw = cn.prepareStatement(WITHDRAW);
+				PreparedStatement deposit = cn.prepareStatement(DEPOSIT)) {
+			withdraw.setDouble(1, amount);
+			withdraw.setInt(2, src);
+			deposit.setDouble(1, amount);
+			deposit.setInt(2, dst);
+			if (withdraw.executeUpdate() != 1 || deposit.executeUpdate() != 1) {
+				return Result.REJECTED;
+			}
+		}
+		return Result.COMMITTED;
+	}
+
+	private static Double lockBalance(PreparedStatement lock, int accountNumber) throws SQLException {
+		lock.setInt(1, accountNumber);
+		try (ResultSet rs = lock.executeQuery()) {
+			return rs.next() ? rs.getDouble(1) : null;
+		}
+	}
+
+	private static boolean isRetryable(SQLException e) {
+		// 40001: serialization failure / deadlock, 1213: MySQL deadlock, 1205: lock wait timeout
+		return "40001".equals(e.getSQLState()) || e.getErrorCode() == 1213 || e.getErrorCode() == 1205;
+	}
+
+	private static void backoff(int attempt) {
+		long delay = BASE_BACKOFF_MS << (attempt - 1);
+		try {
+			Thread.sleep(delay + ThreadLocalRandom.current().nextLong(delay));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1) {
+			System.out.println("Usage: java TransferService <transfers-file> [threads]");
+			return;
+		}
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+		// ------------- Step 1: Loading Drivers -------------
+		Class.forName("com.mysql.cj.jdbc.Driver");
+
+		// ------------- Step 2: One Connection per Worker Thread-------------
+		String url = "jdbc:mysql://localhost:3306/<DATABASE_NAME>";
+		String uname = "<USERNAME>";
+		String pwd = "<PASSWORD>";
+		BlockingQueue<Connection> connections = new ArrayBlockingQueue<>(threads);
+		for (int i = 0; i < threads; i++) {
+			connections.add(DriverManager.getConnection(url, uname, pwd));
+		}
+
+		// ------------- Step 3: Reading Transfers-------------
+		List<String[]> transfers = new ArrayList<>();
+		try (BufferedReader reader = Files.newBufferedReader(Paths.get(args[0]))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (!line.isEmpty() && !line.startsWith("#")) {
+					transfers.add(line.split("\\s*,\\s*"));
+				}
+			}
+		}
+
+		// ------------- Step 4: Parallel Transfers-------------
+		TransferService service = new TransferService();
+		AtomicLong committed = new AtomicLong();
+		AtomicLong rejected = new AtomicLong();
+		AtomicLong failed = new AtomicLong();
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<?>> futures = new ArrayList<>();
+		long start = System.nanoTime();
+		for (String[] t : transfers) {
+			futures.add(executor.submit(() -> {
+				Connection cn = null;
+				try {
+					cn = connections.take();
+					Result result = service.transfer(cn, Integer.parseInt(t[0]), Integer.parseInt(t[1]),
+							Double.parseDouble(t[2]));
+					(result == Result.COMMITTED ? committed : rejected).incrementAndGet();
+				} catch (Exception e) {
+					failed.incrementAndGet();
+					System.out.println("#Transfer Failed " + String.join(",", t) + " --" + e.getMessage());
+				} finally {
+					if (cn != null) {
+						connections.add(cn);
+					}
+				}
+			}));
+		}
+		for (Future<?> f : futures) {
+			f.get();
+		}
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+		executor.shutdown();
+
+		// ------------- Step 5: Report-------------
+		System.out.println("Transfers: " + transfers.size() + "\tCommitted: " + committed + "\tRejected: " + rejected
+				+ "\tFailed: " + failed + "\tRetries: " + service.getRetries());
+		System.out.printf("Elapsed: %.2f s\tThroughput: %.1f transfers/sec%n", seconds, transfers.size() / seconds);
+
+		// ------------- Final Step: Closing Connections-------------
+		for (Connection cn : connections) {
+			cn.close();
+		}
+	}
+
+}
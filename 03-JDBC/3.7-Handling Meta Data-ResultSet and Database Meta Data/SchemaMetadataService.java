@@ -0,0 +1,330 @@
+/*
+This code is a template for caching Database and ResultSet MetaData using JDBC.
+
+- !!IMPORTANT Make sure to  configure JDBC SQL Driver Connector before  running  this code.
+
+
+- Copy this code to your actual created project in your IDE.
+- Also before running, make sure you are using correct credentials for mysql connection .
+- Uses the same STUDENT table as MetaData.
+
+*/
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Introspects tables, columns, indexes and keys once and serves them from memory.
+ *
+ * - Every load gets a new version number.
+ * - checkForChanges() runs one cheap fingerprint query against
+ *   information_schema (columns, indexes and keys of the given schema) and
+ *   reloads only when the schema really changed.
+ * - Row mappers are compiled once per SQL string from the first
+ *   ResultSetMetaData and reused until the schema version changes, so rows are
+ *   read with the right getter without asking ResultSetMetaData every time.
+ */
+public class SchemaMetadataService {
+
+	public record ColumnInfo(String name, int position, int jdbcType, String typeName, int size, boolean nullable) {
+	}
+
+	public record IndexInfo(String name, boolean unique, List<String> columns) {
+	}
+
+	public record ForeignKeyInfo(String name, String column, String referencedTable, String referencedColumn) {
+	}
+
+	public record TableInfo(String name, Map<String, ColumnInfo> columns, List<String> primaryKey,
+			List<IndexInfo> indexes, List<ForeignKeyInfo> foreignKeys) {
+	}
+
+	private record Snapshot(long version, long fingerprint, Map<String, TableInfo> tables) {
+	}
+
+	@FunctionalInterface
+	private interface ColumnReader {
+		Object read(ResultSet rs, int index) throws SQLException;
+	}
+
+	public final class RowMapper {
+		private final long version;
+		private final String[] labels;
+		private final ColumnReader[] readers;
+
+		private RowMapper(long version, ResultSetMetaData rsmd) throws SQLException {
+			this.version = version;
+			int count = rsmd.getColumnCount();
+			this.labels = new String[count];
+			this.readers = new ColumnReader[count];
+			for (int i = 0; i < count; i++) {
+				labels[i] = rsmd.getColumnLabel(i + 1);
+				readers[i] = readerFor(rsmd.getColumnType(i + 1));
+			}
+		}
+
+		public Map<String, Object> map(ResultSet rs) throws SQLException {
+			Map<String, Object> row = new LinkedHashMap<>(labels.length * 2);
+			for (int i = 0; i < labels.length; i++) {
+				row.put(labels[i], readers[i].read(rs, i + 1));
+			}
+			return row;
+		}
+
+		public List<Map<String, Object>> mapAll(ResultSet rs) throws SQLException {
+			List<Map<String, Object>> rows = new ArrayList<>();
+			while (rs.next()) {
+				rows.add(map(rs));
+			}
+			return rows;
+		}
+	}
+
+	/*
+	 * One row per information_schema view the snapshot is built from: columns,
+	 * index columns, key columns (primary, unique and foreign) and foreign key
+	 * rules. Each row is a count and a CRC32 sum, so adding, dropping or
+	 * altering a column, index or key changes the fingerprint.
+	 */
+	private static final String FINGERPRINT = "SELECT 1, COUNT(*), COALESCE(SUM(CRC32(CONCAT_WS(':', TABLE_NAME, "
+			+ "COLUMN_NAME, COLUMN_TYPE, IS_NULLABLE, COLUMN_KEY))), 0) FROM information_schema.COLUMNS "
+			+ "WHERE TABLE_SCHEMA = ? "
+			+ "UNION ALL SELECT 2, COUNT(*), COALESCE(SUM(CRC32(CONCAT_WS(':', TABLE_NAME, INDEX_NAME, NON_UNIQUE, "
+			+ "SEQ_IN_INDEX, COLUMN_NAME))), 0) FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? "
+			+ "UNION ALL SELECT 3, COUNT(*), COALESCE(SUM(CRC32(CONCAT_WS(':', TABLE_NAME, CONSTRAINT_NAME, "
+			+ "ORDINAL_POSITION, COLUMN_NAME, REFERENCED_TABLE_NAME, REFERENCED_COLUMN_NAME))), 0) "
+			+ "FROM information_schema.KEY_COLUMN_USAGE WHERE TABLE_SCHEMA = ? "
+			+ "UNION ALL SELECT 4, COUNT(*), COALESCE(SUM(CRC32(CONCAT_WS(':', TABLE_NAME, CONSTRAINT_NAME, "
+			+ "REFERENCED_TABLE_NAME, UPDATE_RULE, DELETE_RULE))), 0) "
+			+ "FROM information_schema.REFERENTIAL_CONSTRAINTS WHERE CONSTRAINT_SCHEMA = ? ORDER BY 1";
+
+	private final Connection cn;
+	private final String schema;
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+	private final Map<String, RowMapper> mappers = new ConcurrentHashMap<>();
+
+	public SchemaMetadataService(Connection cn, String schema) throws SQLException {
+		this.cn = cn;
+		this.schema = schema;
+		reload(fingerprint());
+	}
+
+	public long getVersion() {
+		return snapshot.get().version();
+	}
+
+	public Map<String, TableInfo> getTables() {
+		return snapshot.get().tables();
+	}
+
+	public TableInfo getTable(String table) {
+		return snapshot.get().tables().get(table);
+	}
+
+	public ColumnInfo getColumn(String table, String column) {
+		TableInfo info = getTable(table);
+		return info == null ? null : info.columns().get(column);
+	}
+
+	/*
+	 * Reloads the metadata when the schema fingerprint changed since the last
+	 * load. Returns true when a reload happened.
+	 */
+	public synchronized boolean checkForChanges() throws SQLException {
+		long fingerprint = fingerprint();
+		if (fingerprint == snapshot.get().fingerprint()) {
+			return false;
+		}
+		reload(fingerprint);
+		return true;
+	}
+
+	public RowMapper mapperFor(String sql, ResultSet rs) throws SQLException {
+		long version = getVersion();
+		RowMapper mapper = mappers.get(sql);
+		if (mapper == null || mapper.version != version) {
+			mapper = new RowMapper(version, rs.getMetaData());
+			mappers.put(sql, mapper);
+		}
+		return mapper;
+	}
+
+	private long fingerprint() throws SQLException {
+		try (PreparedStatement ps = cn.prepareStatement(FINGERPRINT)) {
+			for (int i = 1; i <= 4; i++) {
+				ps.setString(i, schema);
+			}
+			long fingerprint = 0;
+			try (ResultSet rs = ps.executeQuery()) {
+				while (rs.next()) {
+					fingerprint = (fingerprint * 31 + rs.getLong(2)) * 31 + rs.getLong(3);
+				}
+			}
+			return fingerprint;
+		}
+	}
+
+	private synchronized void reload(long fingerprint) throws SQLException {
+		DatabaseMetaData dbmd = cn.getMetaData();
+		Map<String, TableInfo> tables = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+		try (ResultSet rs = dbmd.getTables(schema, null, null, new String[] { "TABLE" })) {
+			while (rs.next()) {
+				String table = rs.getString("TABLE_NAME");
+				tables.put(table, new TableInfo(table, loadColumns(dbmd, table), loadPrimaryKey(dbmd, table),
+						loadIndexes(dbmd, table), loadForeignKeys(dbmd, table)));
+			}
+		}
+
+		Snapshot previous = snapshot.get();
+		long version = previous == null ? 1 : previous.version() + 1;
+		snapshot.set(new Snapshot(version, fingerprint, Collections.unmodifiableMap(tables)));
+	}
+
+	private Map<String, ColumnInfo> loadColumns(DatabaseMetaData dbmd, String table) throws SQLException {
+		Map<String, ColumnInfo> columns = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		try (ResultSet rs = dbmd.getColumns(schema, null, table, null)) {
+			while (rs.next()) {
+				ColumnInfo column = new ColumnInfo(rs.getString("COLUMN_NAME"), rs.getInt("ORDINAL_POSITION"),
+						rs.getInt("DATA_TYPE"), rs.getString("TYPE_NAME"), rs.getInt("COLUMN_SIZE"),
+						rs.getInt("NULLABLE") == DatabaseMetaData.columnNullable);
+				columns.put(column.name(), column);
+			}
+		}
+		return Collections.unmodifiableMap(columns);
+	}
+
+	private List<String> loadPrimaryKey(DatabaseMetaData dbmd, String table) throws SQLException {
+		Map<Short, String> keyColumns = new TreeMap<>();
+		try (ResultSet rs = dbmd.getPrimaryKeys(schema, null, table)) {
+			while (rs.next()) {
+				keyColumns.put(rs.getShort("KEY_SEQ"), rs.getString("COLUMN_NAME"));
+			}
+		}
+		return List.copyOf(keyColumns.values());
+	}
+
+	private List<IndexInfo> loadIndexes(DatabaseMetaData dbmd, String table) throws SQLException {
+		Map<String, Boolean> unique = new LinkedHashMap<>();
+		Map<String, List<String>> columns = new LinkedHashMap<>();
+		try (ResultSet rs = dbmd.getIndexInfo(schema, null, table, false, true)) {
+			while (rs.next()) {
+				String name = rs.getString("INDEX_NAME");
+				if (name == null) {
+					continue;
+				}
+				unique.put(name, !rs.getBoolean("NON_UNIQUE"));
+				columns.computeIfAbsent(name, k -> new ArrayList<>()).add(rs.getString("COLUMN_NAME"));
+			}
+		}
+		List<IndexInfo> indexes = new ArrayList<>();
+		for (String name : columns.keySet()) {
+			indexes.add(new IndexInfo(name, unique.get(name), List.copyOf(columns.get(name))));
+		}
+		return List.copyOf(indexes);
+	}
+
+	private List<ForeignKeyInfo> loadForeignKeys(DatabaseMetaData dbmd, String table) throws SQLException {
+		List<ForeignKeyInfo> keys = new ArrayList<>();
+		try (ResultSet rs = dbmd.getImportedKeys(schema, null, table)) {
+			while (rs.next()) {
+				keys.add(new ForeignKeyInfo(rs.getString("FK_NAME"), rs.getString("FKCOLUMN_NAME"),
+						rs.getString("PKTABLE_NAME"), rs.getString("PKCOLUMN_NAME")));
+			}
+		}
+		return List.copyOf(keys);
+	}
+
+	private static ColumnReader readerFor(int jdbcType) {
+		switch (jdbcType) {
+		case Types.TINYINT:
+		case Types.SMALLINT:
+		case Types.INTEGER:
+			return (rs, i) -> {
+				int value = rs.getInt(i);
+				return rs.wasNull() ? null : value;
+			};
+		case Types.BIGINT:
+			return (rs, i) -> {
+				long value = rs.getLong(i);
+				return rs.wasNull() ? null : value;
+			};
+		case Types.REAL:
+		case Types.FLOAT:
+		case Types.DOUBLE:
+			return (rs, i) -> {
+				double value = rs.getDouble(i);
+				return rs.wasNull() ? null : value;
+			};
+		case Types.DECIMAL:
+		case Types.NUMERIC:
+			return ResultSet::getBigDecimal;
+		case Types.CHAR:
+		case Types.VARCHAR:
+		case Types.LONGVARCHAR:
+			return ResultSet::getString;
+		case Types.DATE:
+			return ResultSet::getDate;
+		case Types.TIMESTAMP:
+			return ResultSet::getTimestamp;
+		default:
+			return ResultSet::getObject;
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		// ------------- Step 1: Loading Drivers -------------
+		Class.forName("com.mysql.cj.jdbc.Driver");
+
+		// ------------- Step 2: Establishing Connections-------------
+		String url = "jdbc:mysql://localhost:3306/<DATABASE_NAME>";
+		String uname = "<USERNAME>";
+		String pwd = "<PASSWORD>";
+		Connection cn = DriverManager.getConnection(url, uname, pwd);
+
+		// ------------- Step 3: Loading Metadata Once-------------
+		SchemaMetadataService metadata = new SchemaMetadataService(cn, "<DATABASE_NAME>");
+		System.out.println("------------- Cached Schema (version " + metadata.getVersion() + ") -------------");
+		for (TableInfo table : metadata.getTables().values()) {
+			System.out.println(table.name() + " PK" + table.primaryKey());
+			for (ColumnInfo column : table.columns().values()) {
+				System.out.println("\t" + column.name() + " (" + column.typeName() + ")");
+			}
+			for (IndexInfo index : table.indexes()) {
+				System.out.println("\tIndex " + index.name() + (index.unique() ? " UNIQUE " : " ") + index.columns());
+			}
+			for (ForeignKeyInfo key : table.foreignKeys()) {
+				System.out.println("\tFK " + key.column() + " -> " + key.referencedTable() + "(" + key.referencedColumn()
+						+ ")");
+			}
+		}
+
+		// ------------- Step 4: Precompiled Row Mapper-------------
+		String sql = "SELECT * FROM STUDENT";
+		try (PreparedStatement ps = cn.prepareStatement(sql); ResultSet rs = ps.executeQuery()) {
+			for (Map<String, Object> row : metadata.mapperFor(sql, rs).mapAll(rs)) {
+				System.out.println(row);
+			}
+		}
+
+		// ------------- Step 5: Version Check-------------
+		System.out.println("Schema changed: " + metadata.checkForChanges());
+
+		// ------------- Closing Connection -------------
+		cn.close();
+	}
+}
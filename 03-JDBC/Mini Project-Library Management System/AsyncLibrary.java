@@ -0,0 +1,146 @@
+package library_mangement_system;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/*
+ * Asynchronous facade over Author and Book.
+ *
+ * - Every call runs on its own virtual thread (Java 21+); older JDKs fall back
+ *   to a cached thread pool.
+ * - ConnectionPool's checkout bounds the number of calls that talk to MySQL
+ *   at once; the rest wait for a connection for up to checkoutTimeoutMillis.
+ * - Failures complete the future exceptionally with a LibraryDataException
+ *   subtype: RecordNotFoundException when the id does not exist,
+ *   RecordConflictException on constraint violations and deadlocks, and
+ *   DatabaseUnavailableException on connection failures and timeouts.
+ */
+public class AsyncLibrary implements AutoCloseable {
+	private ConnectionPool pool;
+	private AuthorCache authorCache;
+	private long checkoutTimeoutMillis;
+	private ExecutorService executor;
+
+	public AsyncLibrary(ConnectionPool pool, AuthorCache authorCache) {
+		this(pool, authorCache, 30_000);
+	}
+
+	public AsyncLibrary(ConnectionPool pool, AuthorCache authorCache, long checkoutTimeoutMillis) {
+		this.pool = pool;
+		this.authorCache = authorCache;
+		this.checkoutTimeoutMillis = checkoutTimeoutMillis;
+		this.executor = newExecutor();
+	}
+
+	public CompletableFuture<Void> addAuthor(String name) {
+		return submit(connection -> {
+			new Author(connection, authorCache).addAuthor(name);
+			return null;
+		});
+	}
+
+	public CompletableFuture<Void> updateAuthor(int id, String newName) {
+		return submit(connection -> {
+			if (!new Author(connection, authorCache).updateAuthor(id, newName)) {
+				throw new RecordNotFoundException("Author", id);
+			}
+			return null;
+		});
+	}
+
+	public CompletableFuture<Void> deleteAuthor(int id) {
+		return submit(connection -> {
+			if (!new Author(connection, authorCache).deleteAuthor(id)) {
+				throw new RecordNotFoundException("Author", id);
+			}
+			return null;
+		});
+	}
+
+	public CompletableFuture<String> getAuthorName(int id) {
+		return submit(connection -> {
+			String name = new Author(connection, authorCache).getAuthorName(id);
+			if (name == null) {
+				throw new RecordNotFoundException("Author", id);
+			}
+			return name;
+		});
+	}
+
+	public CompletableFuture<List<String>> getAllAuthor() {
+		return submit(connection -> new Author(connection, authorCache).getAllAuthor());
+	}
+
+	public CompletableFuture<Void> addBook(String title, int authorId) {
+		return submit(connection -> {
+			new Book(connection, authorCache).addBook(title, authorId);
+			return null;
+		});
+	}
+
+	public CompletableFuture<Void> updateBook(int id, String newTitle, int newAuthorId) {
+		return submit(connection -> {
+			if (!new Book(connection, authorCache).updateBook(id, newTitle, newAuthorId)) {
+				throw new RecordNotFoundException("Book", id);
+			}
+			return null;
+		});
+	}
+
+	public CompletableFuture<Void> deleteBook(int id) {
+		return submit(connection -> {
+			if (!new Book(connection, authorCache).deleteBook(id)) {
+				throw new RecordNotFoundException("Book", id);
+			}
+			return null;
+		});
+	}
+
+	public CompletableFuture<List<String>> getAllBooks() {
+		return submit(connection -> new Book(connection, authorCache).getAllBooks());
+	}
+
+	// waits for running calls, so the pool can be closed right after
+	@Override
+	public void close() {
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(checkoutTimeoutMillis, TimeUnit.MILLISECONDS)) {
+				executor.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private <T> CompletableFuture<T> submit(Function<Connection, T> task) {
+		return CompletableFuture.supplyAsync(() -> {
+			Connection connection;
+			try {
+				connection = pool.acquire(checkoutTimeoutMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DatabaseUnavailableException("Interrupted while waiting for a connection", e);
+			}
+			try {
+				return task.apply(connection);
+			} finally {
+				pool.release(connection);
+			}
+		}, executor);
+	}
+
+	private static ExecutorService newExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newCachedThreadPool();
+		}
+	}
+}
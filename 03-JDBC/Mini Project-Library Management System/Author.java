@@ -3,15 +3,22 @@ package library_mangement_system;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 
 public class Author {
 	private Connection connection;
+	private AuthorCache cache;
 
 	public Author(Connection connection) {
+		this(connection, null);
+	}
+
+	public Author(Connection connection, AuthorCache cache) {
 		this.connection = connection;
+		this.cache = cache;
 	}
 
 	public void addAuthor(String name) {
@@ -21,34 +28,110 @@ public class Author {
 			statement.setString(1, name);
 			statement.executeUpdate();
 			statement.close();
-		} catch (Exception e) {
-			e.printStackTrace();
+		} catch (SQLException e) {
+			throw LibraryDataException.from("Unable to add author", e);
 		}
 	}
 
-	public void updateAuthor(int id, String newName) {
+	// returns false when no author has that id. Bumps the version too, so a
+	// concurrent compare-and-set writer cannot overwrite this edit unseen
+	public boolean updateAuthor(int id, String newName) {
+		int updated;
 		try {
-			String query = "UPDATE Authors SET name = ? WHERE id = ?";
+			String query = "UPDATE Authors SET name = ?, version = version + 1 WHERE id = ?";
 			PreparedStatement statement = connection.prepareStatement(query);
 			statement.setString(1, newName);
 			statement.setInt(2, id);
-			statement.executeUpdate();
+			updated = statement.executeUpdate();
+			statement.close();
+		} catch (SQLException e) {
+			throw LibraryDataException.from("Unable to update author " + id, e);
+		} finally {
+			invalidate(id);
+		}
+		return updated > 0;
+	}
+
+	/*
+	 * Compare-and-set update: only succeeds while the row is still at
+	 * expectedVersion, otherwise throws StaleVersionException.
+	 */
+	public void updateAuthor(int id, String newName, int expectedVersion) {
+		int updated;
+		try {
+			String query = "UPDATE Authors SET name = ?, version = version + 1 WHERE id = ? AND version = ?";
+			PreparedStatement statement = connection.prepareStatement(query);
+			statement.setString(1, newName);
+			statement.setInt(2, id);
+			statement.setInt(3, expectedVersion);
+			updated = statement.executeUpdate();
 			statement.close();
-		} catch (Exception e) {
-			e.printStackTrace();
+		} catch (SQLException e) {
+			throw LibraryDataException.from("Unable to update author " + id, e);
+		} finally {
+			invalidate(id);
+		}
+		if (updated == 0) {
+			throw new StaleVersionException("Author", id, expectedVersion);
 		}
 	}
 
-	public void deleteAuthor(int id) {
+	// throws RecordNotFoundException when the author does not exist
+	public int getAuthorVersion(int id) {
+		try {
+			String query = "SELECT version FROM AUTHORS WHERE id = ?";
+			PreparedStatement statement = connection.prepareStatement(query);
+			statement.setInt(1, id);
+			ResultSet result = statement.executeQuery();
+			boolean found = result.next();
+			int version = found ? result.getInt(1) : 0;
+			result.close();
+			statement.close();
+			if (!found) {
+				throw new RecordNotFoundException("Author", id);
+			}
+			return version;
+		} catch (SQLException e) {
+			throw LibraryDataException.from("Unable to load author " + id, e);
+		}
+	}
+
+	// returns false when no author has that id
+	public boolean deleteAuthor(int id) {
+		int deleted;
 		try {
 			String query = "DELETE FROM Authors WHERE id = ?";
 			PreparedStatement statement = connection.prepareStatement(query);
 			statement.setInt(1, id);
-			statement.executeUpdate();
+			deleted = statement.executeUpdate();
 			statement.close();
-		} catch (Exception e) {
-			e.printStackTrace();
+		} catch (SQLException e) {
+			throw LibraryDataException.from("Unable to delete author " + id, e);
+		} finally {
+			invalidate(id);
 		}
+		return deleted > 0;
+	}
+
+	public String getAuthorName(int id) {
+		if (cache != null) {
+			return cache.getName(id, connection);
+		}
+		String name = null;
+		try {
+			String query = "SELECT name FROM AUTHORS WHERE id = ?";
+			PreparedStatement statement = connection.prepareStatement(query);
+			statement.setInt(1, id);
+			ResultSet result = statement.executeQuery();
+			if (result.next()) {
+				name = result.getString(1);
+			}
+			result.close();
+			statement.close();
+		} catch (SQLException e) {
+			throw LibraryDataException.from("Unable to load author " + id, e);
+		}
+		return name;
 	}
 
 	public List<String> getAllAuthor() {
@@ -63,10 +146,16 @@ public class Author {
 				authors.add("Author Id: " + authorId + ", Author Name: " + name);
 			}
 			result.close();
-		} catch (Exception e) {
-			e.printStackTrace();
+		} catch (SQLException e) {
+			throw LibraryDataException.from("Unable to list authors", e);
 		}
 
 		return authors;
 	}
+
+	private void invalidate(int id) {
+		if (cache != null) {
+			cache.invalidate(id);
+		}
+	}
 }
@@ -0,0 +1,142 @@
+package library_mangement_system;
+
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Read-through cache for author names keyed by author id.
+ *
+ * - Entries are kept in an access-ordered LinkedHashMap, so the least recently
+ *   used author is evicted once the cache grows past maxSize.
+ * - A miss loads the name through Author.getAuthorName (uncached) on the
+ *   caller's connection, outside the lock. Concurrent misses for the same id
+ *   share one load; misses for other ids and hits are not blocked by it.
+ * - Author.updateAuthor / Author.deleteAuthor call invalidate() so the next
+ *   read sees the new value. A load that was running when the id was
+ *   invalidated is returned to its caller but not stored.
+ */
+public class AuthorCache {
+	private Connection connection;
+	private Map<Integer, String> entries;
+	private Map<Integer, CompletableFuture<String>> loading = new ConcurrentHashMap<>();
+	private ReentrantLock lock = new ReentrantLock();
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	public AuthorCache(Connection connection, int maxSize) {
+		this.connection = connection;
+		this.entries = new LinkedHashMap<Integer, String>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+				if (size() > maxSize) {
+					evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	public String getName(int id) {
+		return getName(id, connection);
+	}
+
+	// loads a missing name on the given connection instead of the cache's own
+	public String getName(int id, Connection connection) {
+		lock.lock();
+		try {
+			String name = entries.get(id);
+			if (name != null) {
+				hits++;
+				return name;
+			}
+			misses++;
+		} finally {
+			lock.unlock();
+		}
+
+		CompletableFuture<String> load = new CompletableFuture<>();
+		CompletableFuture<String> running = loading.putIfAbsent(id, load);
+		if (running != null) {
+			return join(running);
+		}
+		try {
+			String name = new Author(connection).getAuthorName(id);
+			lock.lock();
+			try {
+				// skip the store if invalidate() ran while we were loading
+				if (name != null && loading.get(id) == load) {
+					entries.put(id, name);
+				}
+			} finally {
+				lock.unlock();
+			}
+			load.complete(name);
+			return name;
+		} catch (RuntimeException e) {
+			load.completeExceptionally(e);
+			throw e;
+		} finally {
+			loading.remove(id, load);
+		}
+	}
+
+	public void invalidate(int id) {
+		lock.lock();
+		try {
+			loading.remove(id);
+			entries.remove(id);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void clear() {
+		lock.lock();
+		try {
+			loading.clear();
+			entries.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public double hitRatio() {
+		lock.lock();
+		try {
+			long total = hits + misses;
+			return total == 0 ? 0.0 : (double) hits / total;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public String getStats() {
+		lock.lock();
+		try {
+			return "Size: " + entries.size() + ", Hits: " + hits + ", Misses: " + misses + ", Evictions: " + evictions
+					+ ", Hit Ratio: " + String.format("%.2f", hitRatio() * 100) + "%";
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private static String join(CompletableFuture<String> load) {
+		try {
+			return load.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+}
@@ -3,15 +3,22 @@ package library_mangement_system;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 
 public class Book {
 	private Connection connection;
+	private AuthorCache authorCache;
 
 	public Book(Connection connection) {
+		this(connection, null);
+	}
+
+	public Book(Connection connection, AuthorCache authorCache) {
 		this.connection = connection;
+		this.authorCache = authorCache;
 	}
 
 	public void addBook(String title, int authorId) {
@@ -22,35 +29,85 @@ public class Book {
 			statement.setInt(2, authorId);
 			statement.executeUpdate();
 			statement.close();
-		} catch (Exception e) {
-			e.printStackTrace();
+		} catch (SQLException e) {
+			throw LibraryDataException.from("Unable to add book", e);
 		}
 	}
 
-	public void updateBook(int id, String newTitle, int newAuthorId) {
+	// returns false when no book has that id. Bumps the version too, so a
+	// concurrent compare-and-set writer cannot overwrite this edit unseen
+	public boolean updateBook(int id, String newTitle, int newAuthorId) {
+		int updated;
 		try {
-			String query = "UPDATE BOOKS SET title = ?, author_id = ? WHERE id = ?";
+			String query = "UPDATE BOOKS SET title = ?, author_id = ?, version = version + 1 WHERE id = ?";
 			PreparedStatement statement = connection.prepareStatement(query);
 			statement.setString(1, newTitle);
 			statement.setInt(2, newAuthorId);
 			statement.setInt(3, id);
-			statement.executeUpdate();
+			updated = statement.executeUpdate();
 			statement.close();
-		} catch (Exception e) {
-			e.printStackTrace();
+		} catch (SQLException e) {
+			throw LibraryDataException.from("Unable to update book " + id, e);
 		}
+		return updated > 0;
 	}
 
-	public void deleteBook(int id) {
+	/*
+	 * Compare-and-set update: only succeeds while the row is still at
+	 * expectedVersion, otherwise throws StaleVersionException.
+	 */
+	public void updateBook(int id, String newTitle, int newAuthorId, int expectedVersion) {
+		int updated;
+		try {
+			String query = "UPDATE BOOKS SET title = ?, author_id = ?, version = version + 1 WHERE id = ? AND version = ?";
+			PreparedStatement statement = connection.prepareStatement(query);
+			statement.setString(1, newTitle);
+			statement.setInt(2, newAuthorId);
+			statement.setInt(3, id);
+			statement.setInt(4, expectedVersion);
+			updated = statement.executeUpdate();
+			statement.close();
+		} catch (SQLException e) {
+			throw LibraryDataException.from("Unable to update book " + id, e);
+		}
+		if (updated == 0) {
+			throw new StaleVersionException("Book", id, expectedVersion);
+		}
+	}
+
+	// throws RecordNotFoundException when the book does not exist
+	public int getBookVersion(int id) {
+		try {
+			String query = "SELECT version FROM BOOKS WHERE id = ?";
+			PreparedStatement statement = connection.prepareStatement(query);
+			statement.setInt(1, id);
+			ResultSet result = statement.executeQuery();
+			boolean found = result.next();
+			int version = found ? result.getInt(1) : 0;
+			result.close();
+			statement.close();
+			if (!found) {
+				throw new RecordNotFoundException("Book", id);
+			}
+			return version;
+		} catch (SQLException e) {
+			throw LibraryDataException.from("Unable to load book " + id, e);
+		}
+	}
+
+	// returns false when no book has that id
+	public boolean deleteBook(int id) {
+		int deleted;
 		try {
 			String query = "DELETE FROM BOOKS WHERE id = ?";
 			PreparedStatement statement = connection.prepareStatement(query);
 			statement.setInt(1, id);
-			statement.executeUpdate();
+			deleted = statement.executeUpdate();
 			statement.close();
-		} catch (Exception e) {
-			e.printStackTrace();
+		} catch (SQLException e) {
+			throw LibraryDataException.from("Unable to delete book " + id, e);
 		}
+		return deleted > 0;
 	}
 
 	public List<String> getAllBooks() {
@@ -64,11 +121,15 @@ public class Book {
 				int id = result.getInt(1);
 				String title = result.getString(2);
 				int authorId = result.getInt(3);
-				books.add("Book Id: " + id + ", Title: " + title + ", Author Id: " + authorId);
+				String book = "Book Id: " + id + ", Title: " + title + ", Author Id: " + authorId;
+				if (authorCache != null) {
+					book += ", Author Name: " + authorCache.getName(authorId, connection);
+				}
+				books.add(book);
 			}
 			result.close();
-		} catch (Exception e) {
-			e.printStackTrace();
+		} catch (SQLException e) {
+			throw LibraryDataException.from("Unable to list books", e);
 		}
 
 		return books;
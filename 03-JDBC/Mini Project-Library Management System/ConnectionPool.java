@@ -0,0 +1,78 @@
+package library_mangement_system;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Fixed-size pool of connections opened through DBConnector.
+ * acquire() blocks until a connection is free; acquire(timeoutMillis) gives
+ * up with DatabaseUnavailableException instead. release() hands it back.
+ * With JdbcMetrics, pooled connections are instrumented and the time spent
+ * waiting in acquire() is recorded.
+ */
+public class ConnectionPool implements AutoCloseable {
+	private List<DBConnector> connectors = new ArrayList<>();
+	private BlockingQueue<Connection> idle;
+	private JdbcMetrics metrics;
+
+	public ConnectionPool(int size) {
+		this(size, null);
+	}
+
+	public ConnectionPool(int size, JdbcMetrics metrics) {
+		this.metrics = metrics;
+		idle = new ArrayBlockingQueue<>(size);
+		for (int i = 0; i < size; i++) {
+			DBConnector connector = new DBConnector();
+			if (connector.getConnection() == null) {
+				close();
+				throw new DatabaseUnavailableException("Unable to open pooled connection " + (i + 1) + " of " + size);
+			}
+			connectors.add(connector);
+			idle.add(metrics == null ? connector.getConnection() : metrics.wrap(connector.getConnection()));
+		}
+	}
+
+	public int size() {
+		return connectors.size();
+	}
+
+	public Connection acquire() throws InterruptedException {
+		if (metrics == null) {
+			return idle.take();
+		}
+		long start = System.nanoTime();
+		Connection connection = idle.take();
+		metrics.recordConnectionWait(System.nanoTime() - start);
+		return connection;
+	}
+
+	public Connection acquire(long timeoutMillis) throws InterruptedException {
+		long start = System.nanoTime();
+		Connection connection = idle.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+		if (metrics != null) {
+			metrics.recordConnectionWait(System.nanoTime() - start);
+		}
+		if (connection == null) {
+			throw new DatabaseUnavailableException("No pooled connection free after " + timeoutMillis + " ms");
+		}
+		return connection;
+	}
+
+	public void release(Connection connection) {
+		idle.offer(connection);
+	}
+
+	@Override
+	public void close() {
+		for (DBConnector connector : connectors) {
+			connector.closeConnection();
+		}
+		connectors.clear();
+		idle.clear();
+	}
+}
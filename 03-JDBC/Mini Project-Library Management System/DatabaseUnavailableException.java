@@ -0,0 +1,18 @@
+package library_mangement_system;
+
+/*
+ * Raised when MySQL cannot be reached or does not answer in time: a broken
+ * or refused connection, a statement timeout, or no pooled connection
+ * becoming free within the checkout timeout. Usually worth retrying later.
+ */
+public class DatabaseUnavailableException extends LibraryDataException {
+	private static final long serialVersionUID = 1L;
+
+	public DatabaseUnavailableException(String message) {
+		super(message);
+	}
+
+	public DatabaseUnavailableException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
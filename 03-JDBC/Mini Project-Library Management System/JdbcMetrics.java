@@ -0,0 +1,200 @@
+package library_mangement_system;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+/*
+ * Records how long the library's SQL takes without an external APM.
+ *
+ * wrap(...) returns dynamic proxies around a DataSource, Connection or
+ * Statement. Every execute* call is timed and recorded under its SQL shape
+ * (literals replaced by ?), together with the rows read through the returned
+ * ResultSet and the size of executed batches. Calls slower than the threshold
+ * are logged, and connection wait time from DataSource.getConnection() or
+ * ConnectionPool.acquire() is tracked separately.
+ */
+public class JdbcMetrics {
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+	private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	public record ShapeSnapshot(String sql, long calls, double totalMillis, double meanMillis, double p50Millis,
+			double p95Millis, double p99Millis, double maxMillis, long rowsFetched, long batches, long batchedRows) {
+	}
+
+	private static class ShapeStats {
+		private LatencyHistogram latency = new LatencyHistogram();
+		private LongAdder rowsFetched = new LongAdder();
+		private LongAdder batches = new LongAdder();
+		private LongAdder batchedRows = new LongAdder();
+	}
+
+	private Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+	private LatencyHistogram connectionWait = new LatencyHistogram();
+	private long slowQueryMillis;
+
+	public JdbcMetrics(long slowQueryMillis) {
+		this.slowQueryMillis = slowQueryMillis;
+	}
+
+	public DataSource wrap(DataSource dataSource) {
+		return proxy(DataSource.class, dataSource, (method, args) -> {
+			if (!method.getName().equals("getConnection")) {
+				return invoke(dataSource, method, args);
+			}
+			long start = System.nanoTime();
+			Connection connection = (Connection) invoke(dataSource, method, args);
+			recordConnectionWait(System.nanoTime() - start);
+			return wrap(connection);
+		});
+	}
+
+	public Connection wrap(Connection connection) {
+		if (connection == null || Proxy.isProxyClass(connection.getClass())) {
+			return connection;
+		}
+		return proxy(Connection.class, connection, (method, args) -> {
+			Object result = invoke(connection, method, args);
+			if (result instanceof Statement) {
+				String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+				return wrapStatement(method.getReturnType(), (Statement) result, sql);
+			}
+			return result;
+		});
+	}
+
+	public void recordConnectionWait(long nanos) {
+		connectionWait.recordMicros(nanos / 1_000);
+	}
+
+	public List<ShapeSnapshot> snapshot() {
+		List<ShapeSnapshot> snapshots = new ArrayList<>();
+		for (Map.Entry<String, ShapeStats> entry : shapes.entrySet()) {
+			ShapeStats stats = entry.getValue();
+			LatencyHistogram h = stats.latency;
+			snapshots.add(new ShapeSnapshot(entry.getKey(), h.getCount(), h.getTotalMicros() / 1_000.0,
+					h.getMeanMicros() / 1_000.0, h.percentileMicros(50) / 1_000.0, h.percentileMicros(95) / 1_000.0,
+					h.percentileMicros(99) / 1_000.0, h.getMaxMicros() / 1_000.0, stats.rowsFetched.sum(),
+					stats.batches.sum(), stats.batchedRows.sum()));
+		}
+		snapshots.sort(Comparator.comparingDouble(ShapeSnapshot::totalMillis).reversed());
+		return snapshots;
+	}
+
+	public String report() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("Connection wait: count=%d p50=%.2fms p99=%.2fms max=%.2fms%n",
+				connectionWait.getCount(), connectionWait.percentileMicros(50) / 1_000.0,
+				connectionWait.percentileMicros(99) / 1_000.0, connectionWait.getMaxMicros() / 1_000.0));
+		for (ShapeSnapshot s : snapshot()) {
+			report.append(String.format(
+					"%6d calls  total=%.1fms  p50=%.2fms  p95=%.2fms  p99=%.2fms  max=%.2fms  rows=%d  batches=%d/%d  %s%n",
+					s.calls(), s.totalMillis(), s.p50Millis(), s.p95Millis(), s.p99Millis(), s.maxMillis(),
+					s.rowsFetched(), s.batches(), s.batchedRows(), s.sql()));
+		}
+		return report.toString();
+	}
+
+	/*
+	 * Prints report() every period on a daemon thread. Shut the returned
+	 * scheduler down to stop reporting.
+	 */
+	public ScheduledExecutorService startReporter(long period, TimeUnit unit) {
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "jdbc-metrics-reporter");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleAtFixedRate(() -> System.out.print(report()), period, period, unit);
+		return scheduler;
+	}
+
+	static String shapeOf(String sql) {
+		String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+		shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+		return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+	}
+
+	private Object wrapStatement(Class<?> type, Statement statement, String preparedSql) {
+		int[] pendingBatch = new int[1];
+		return proxy(type, statement, (method, args) -> {
+			String name = method.getName();
+			if (name.equals("addBatch")) {
+				pendingBatch[0]++;
+				return invoke(statement, method, args);
+			}
+			if (!name.startsWith("execute")) {
+				return invoke(statement, method, args);
+			}
+
+			String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+			ShapeStats stats = shapes.computeIfAbsent(sql == null ? "<batch>" : shapeOf(sql), k -> new ShapeStats());
+			long start = System.nanoTime();
+			try {
+				Object result = invoke(statement, method, args);
+				if (result instanceof ResultSet) {
+					return wrapResultSet((ResultSet) result, stats);
+				}
+				return result;
+			} finally {
+				long micros = (System.nanoTime() - start) / 1_000;
+				stats.latency.recordMicros(micros);
+				if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+					stats.batches.increment();
+					stats.batchedRows.add(pendingBatch[0]);
+					pendingBatch[0] = 0;
+				}
+				if (micros / 1_000 >= slowQueryMillis) {
+					System.out.println("SLOW QUERY (" + micros / 1_000 + " ms): " + sql);
+				}
+			}
+		});
+	}
+
+	private ResultSet wrapResultSet(ResultSet resultSet, ShapeStats stats) {
+		return proxy(ResultSet.class, resultSet, (method, args) -> {
+			Object result = invoke(resultSet, method, args);
+			if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+				stats.rowsFetched.increment();
+			}
+			return result;
+		});
+	}
+
+	@FunctionalInterface
+	private interface Handler {
+		Object handle(Method method, Object[] args) throws Throwable;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+		InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(method, args);
+		return (T) Proxy.newProxyInstance(JdbcMetrics.class.getClassLoader(), new Class<?>[] { type },
+				invocationHandler);
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
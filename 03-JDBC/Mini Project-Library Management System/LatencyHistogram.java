@@ -0,0 +1,90 @@
+package library_mangement_system;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Lock-free log-linear histogram of microsecond values.
+ *
+ * Values below 64 get their own bucket; larger values are grouped into 32
+ * sub-buckets per power of two, which keeps every recorded value within ~3% of
+ * its bucket while covering up to 2^41 microseconds (~25 days) in 1,184 slots.
+ * Larger values land in the last bucket.
+ */
+public class LatencyHistogram {
+	private static final int LINEAR_BUCKETS = 64;
+	private static final int SUB_BUCKETS = 32;
+	private static final int MAX_EXPONENT = 40;
+
+	private AtomicLongArray counts = new AtomicLongArray(LINEAR_BUCKETS + (MAX_EXPONENT - 5) * SUB_BUCKETS);
+	private LongAdder total = new LongAdder();
+	private LongAdder sum = new LongAdder();
+	private LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	public void recordMicros(long micros) {
+		long value = Math.max(0, micros);
+		counts.incrementAndGet(indexOf(value));
+		total.increment();
+		sum.add(value);
+		max.accumulate(value);
+	}
+
+	public long getCount() {
+		return total.sum();
+	}
+
+	public long getTotalMicros() {
+		return sum.sum();
+	}
+
+	public long getMaxMicros() {
+		return max.get();
+	}
+
+	public double getMeanMicros() {
+		long count = getCount();
+		return count == 0 ? 0.0 : (double) getTotalMicros() / count;
+	}
+
+	/*
+	 * Upper bound of the bucket holding the given percentile (0-100).
+	 */
+	public long percentileMicros(double percentile) {
+		long count = getCount();
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+		long seen = 0;
+		for (int i = 0; i < counts.length(); i++) {
+			seen += counts.get(i);
+			if (seen >= rank) {
+				return Math.min(upperBoundOf(i), getMaxMicros());
+			}
+		}
+		return getMaxMicros();
+	}
+
+	private static int indexOf(long value) {
+		if (value < LINEAR_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		if (exponent > MAX_EXPONENT) {
+			return LINEAR_BUCKETS + (MAX_EXPONENT - 5) * SUB_BUCKETS - 1;
+		}
+		int subBucket = (int) ((value >>> (exponent - 5)) & (SUB_BUCKETS - 1));
+		return LINEAR_BUCKETS + (exponent - 6) * SUB_BUCKETS + subBucket;
+	}
+
+	private static long upperBoundOf(int index) {
+		if (index < LINEAR_BUCKETS) {
+			return index;
+		}
+		int exponent = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 6;
+		int subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS;
+		long bucketWidth = 1L << (exponent - 5);
+		return (1L << exponent) + (subBucket + 1) * bucketWidth - 1;
+	}
+}
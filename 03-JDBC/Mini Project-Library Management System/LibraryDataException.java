@@ -0,0 +1,49 @@
+package library_mangement_system;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientConnectionException;
+
+/*
+ * Unchecked exception raised by the library DAOs when a database call fails,
+ * so callers (and CompletableFuture chains in AsyncLibrary) see the failure
+ * instead of an empty result.
+ *
+ * Subtypes tell callers what went wrong:
+ * - RecordNotFoundException: the row does not exist
+ * - RecordConflictException (and StaleVersionException): the write clashed
+ *   with another one or with a constraint
+ * - DatabaseUnavailableException: connection failure or timeout
+ */
+public class LibraryDataException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	public LibraryDataException(String message) {
+		super(message);
+	}
+
+	public LibraryDataException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+	/*
+	 * Wraps a driver exception in the matching subtype, using the JDBC 4
+	 * exception classes and the SQLState class (23 = integrity constraint,
+	 * 40 = transaction rollback, 08 = connection exception).
+	 */
+	public static LibraryDataException from(String message, SQLException e) {
+		String state = e.getSQLState() == null ? "" : e.getSQLState();
+		if (e instanceof SQLIntegrityConstraintViolationException || e instanceof SQLTransactionRollbackException
+				|| state.startsWith("23") || state.startsWith("40")) {
+			return new RecordConflictException(message, e);
+		}
+		if (e instanceof SQLTimeoutException || e instanceof SQLTransientConnectionException
+				|| e instanceof SQLNonTransientConnectionException || state.startsWith("08")) {
+			return new DatabaseUnavailableException(message, e);
+		}
+		return new LibraryDataException(message, e);
+	}
+}
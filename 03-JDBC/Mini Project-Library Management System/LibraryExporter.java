@@ -0,0 +1,263 @@
+package library_mangement_system;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Properties;
+
+/*
+ * Exports the BOOKS and AUTHORS tables as compressed NDJSON for downstream
+ * search indexes.
+ *
+ * - The first run of a table streams a full snapshot in id order.
+ * - Later runs only export rows whose updated_at moved past the stored
+ *   watermark (see library_export.sql for the column and index).
+ * - Every run stops at a bound SAFETY_MARGIN_SECONDS before the database's
+ *   current time and saves that bound as the new watermark. A transaction
+ *   that committed late but stamped its rows with an earlier time is
+ *   therefore still picked up. The margin must be longer than the longest
+ *   write transaction on these tables.
+ * - Progress is also saved every CHECKPOINT_ROWS rows, in
+ *   export-watermarks.properties. Each save first finishes the current
+ *   output file. A crashed run resumes from the last checkpoint. The rows
+ *   after it may appear twice downstream, and the last file of the crashed
+ *   run may be truncated.
+ * - Rows are read through a forward-only, read-only cursor and written line by
+ *   line, so memory stays flat whatever the table size.
+ *
+ * Deleted rows are not exported; downstream indexes should be rebuilt from a
+ * fresh snapshot (delete the table's watermark entries) when deletes matter.
+ */
+public class LibraryExporter {
+	private static final String WATERMARK_FILE = "export-watermarks.properties";
+	private static final long MAX_LINES_PER_FILE = 500_000;
+	private static final long CHECKPOINT_ROWS = 100_000;
+	private static final int SAFETY_MARGIN_SECONDS = 60;
+	private static final int FETCH_SIZE = 10_000;
+
+	private Connection connection;
+	private Path outputDirectory;
+	private Properties watermarks = new Properties();
+
+	public LibraryExporter(Connection connection, Path outputDirectory) throws IOException {
+		this.connection = connection;
+		this.outputDirectory = outputDirectory;
+		Files.createDirectories(outputDirectory);
+		Path file = outputDirectory.resolve(WATERMARK_FILE);
+		if (Files.exists(file)) {
+			try (InputStream in = Files.newInputStream(file)) {
+				watermarks.load(in);
+			}
+		}
+	}
+
+	public long export(String table) throws SQLException, IOException {
+		String key = table.toLowerCase();
+		if (watermarks.getProperty(key + ".updated_at") == null) {
+			return exportSnapshot(table);
+		}
+		return exportChanges(table);
+	}
+
+	/*
+	 * Full export in id order. Rows changed while it runs are exported again by
+	 * the next incremental run, because the bound is taken before reading.
+	 * An interrupted snapshot continues after the last checkpointed id.
+	 */
+	public long exportSnapshot(String table) throws SQLException, IOException {
+		String key = table.toLowerCase();
+		String savedBound = watermarks.getProperty(key + ".snapshot.bound");
+		Timestamp bound = savedBound != null ? Timestamp.valueOf(savedBound) : readBound();
+		int afterId = Integer.parseInt(watermarks.getProperty(key + ".snapshot.after_id", "0"));
+
+		String query = "SELECT * FROM " + table + " WHERE id > ? ORDER BY id";
+		try (PreparedStatement statement = prepareStreaming(query);
+				NdjsonFileWriter writer = newWriter(table, "snapshot")) {
+			statement.setInt(1, afterId);
+			long rows = 0;
+			try (ResultSet result = statement.executeQuery()) {
+				ResultSetMetaData meta = result.getMetaData();
+				while (result.next()) {
+					writer.write(toJson(result, meta));
+					if (++rows % CHECKPOINT_ROWS == 0) {
+						writer.endFile();
+						watermarks.setProperty(key + ".snapshot.bound", bound.toString());
+						watermarks.setProperty(key + ".snapshot.after_id", String.valueOf(result.getInt("id")));
+						storeWatermarks();
+					}
+				}
+			}
+			writer.endFile();
+			watermarks.remove(key + ".snapshot.bound");
+			watermarks.remove(key + ".snapshot.after_id");
+			saveWatermark(table, bound, Integer.MAX_VALUE);
+			return rows;
+		}
+	}
+
+	/*
+	 * Rows with watermark < (updated_at, id) and updated_at <= bound, in that
+	 * order. No row can still appear below the bound (see the margin above),
+	 * so the (updated_at, id) checkpoints taken inside the window are safe to
+	 * resume from.
+	 */
+	public long exportChanges(String table) throws SQLException, IOException {
+		String key = table.toLowerCase();
+		Timestamp updatedAt = Timestamp.valueOf(watermarks.getProperty(key + ".updated_at"));
+		int id = Integer.parseInt(watermarks.getProperty(key + ".id", "0"));
+		Timestamp bound = readBound();
+		if (!bound.after(updatedAt)) {
+			return 0;
+		}
+
+		String query = "SELECT * FROM " + table
+				+ " WHERE (updated_at > ? OR (updated_at = ? AND id > ?)) AND updated_at <= ? ORDER BY updated_at, id";
+		try (PreparedStatement statement = prepareStreaming(query);
+				NdjsonFileWriter writer = newWriter(table, "changes")) {
+			statement.setTimestamp(1, updatedAt);
+			statement.setTimestamp(2, updatedAt);
+			statement.setInt(3, id);
+			statement.setTimestamp(4, bound);
+
+			long rows = 0;
+			try (ResultSet result = statement.executeQuery()) {
+				ResultSetMetaData meta = result.getMetaData();
+				while (result.next()) {
+					writer.write(toJson(result, meta));
+					if (++rows % CHECKPOINT_ROWS == 0) {
+						writer.endFile();
+						saveWatermark(table, result.getTimestamp("updated_at"), result.getInt("id"));
+					}
+				}
+			}
+			writer.endFile();
+			// everything up to the bound is exported; Integer.MAX_VALUE makes
+			// the next run start strictly after it
+			saveWatermark(table, bound, Integer.MAX_VALUE);
+			return rows;
+		}
+	}
+
+	// the database's now minus the safety margin, so client clock skew cannot matter
+	private Timestamp readBound() throws SQLException {
+		try (Statement statement = connection.createStatement();
+				ResultSet result = statement.executeQuery(
+						"SELECT CURRENT_TIMESTAMP(6) - INTERVAL " + SAFETY_MARGIN_SECONDS + " SECOND")) {
+			result.next();
+			return result.getTimestamp(1);
+		}
+	}
+
+	private PreparedStatement prepareStreaming(String query) throws SQLException {
+		PreparedStatement statement = connection.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY,
+				ResultSet.CONCUR_READ_ONLY);
+		// MySQL Connector/J only streams rows one at a time with Integer.MIN_VALUE;
+		// other drivers honour a regular fetch size
+		if ("MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+			statement.setFetchSize(Integer.MIN_VALUE);
+		} else {
+			statement.setFetchSize(FETCH_SIZE);
+		}
+		return statement;
+	}
+
+	private NdjsonFileWriter newWriter(String table, String kind) {
+		String prefix = table.toLowerCase() + "-" + kind + "-" + System.currentTimeMillis();
+		return new NdjsonFileWriter(outputDirectory, prefix, MAX_LINES_PER_FILE);
+	}
+
+	private void saveWatermark(String table, Timestamp updatedAt, int id) throws IOException {
+		String key = table.toLowerCase();
+		watermarks.setProperty(key + ".updated_at", updatedAt.toString());
+		watermarks.setProperty(key + ".id", String.valueOf(id));
+		storeWatermarks();
+	}
+
+	private void storeWatermarks() throws IOException {
+		// write to a temp file first so a crash never leaves a half-written watermark
+		Path file = outputDirectory.resolve(WATERMARK_FILE);
+		Path temp = outputDirectory.resolve(WATERMARK_FILE + ".tmp");
+		try (OutputStream out = Files.newOutputStream(temp)) {
+			watermarks.store(out, "LibraryExporter watermarks");
+		}
+		Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static String toJson(ResultSet result, ResultSetMetaData meta) throws SQLException {
+		StringBuilder json = new StringBuilder(128);
+		json.append('{');
+		for (int i = 1; i <= meta.getColumnCount(); i++) {
+			if (i > 1) {
+				json.append(',');
+			}
+			appendString(json, meta.getColumnLabel(i).toLowerCase());
+			json.append(':');
+			Object value = result.getObject(i);
+			if (value == null) {
+				json.append("null");
+			} else if (value instanceof Number || value instanceof Boolean) {
+				json.append(value);
+			} else {
+				appendString(json, value.toString());
+			}
+		}
+		return json.append('}').toString();
+	}
+
+	private static void appendString(StringBuilder json, String value) {
+		json.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '"':
+				json.append("\\\"");
+				break;
+			case '\\':
+				json.append("\\\\");
+				break;
+			case '\n':
+				json.append("\\n");
+				break;
+			case '\r':
+				json.append("\\r");
+				break;
+			case '\t':
+				json.append("\\t");
+				break;
+			default:
+				if (c < 0x20) {
+					json.append(String.format("\\u%04x", (int) c));
+				} else {
+					json.append(c);
+				}
+			}
+		}
+		json.append('"');
+	}
+
+	public static void main(String[] args) throws Exception {
+		Path outputDirectory = Paths.get(args.length > 0 ? args[0] : "export");
+
+		DBConnector connector = new DBConnector();
+		try {
+			LibraryExporter exporter = new LibraryExporter(connector.getConnection(), outputDirectory);
+			for (String table : new String[] { "AUTHORS", "BOOKS" }) {
+				long rows = exporter.export(table);
+				System.out.println(table + ": " + rows + " rows exported to " + outputDirectory);
+			}
+		} finally {
+			connector.closeConnection();
+		}
+	}
+}
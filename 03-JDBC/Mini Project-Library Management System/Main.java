@@ -1,20 +1,26 @@
 package library_mangement_system;
 
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class Main {
 
 	public static void main(String[] args) {
 
 		DBConnector connector = new DBConnector();
-		Connection connection = connector.getConnection();
+		JdbcMetrics metrics = new JdbcMetrics(200);
+		Connection connection = metrics.wrap(connector.getConnection());
 		if (connection != null) {
 			System.out.println("Database connected");
 		}
 
-		Author author = new Author(connection);
-		Book book = new Book(connection);
+		AuthorCache authorCache = new AuthorCache(connection, 1000);
+		Author author = new Author(connection, authorCache);
+		Book book = new Book(connection, authorCache);
 
 		Scanner scanner = new Scanner(System.in);
 
@@ -34,6 +40,9 @@ public class Main {
 			System.out.println("8. See All Books");
 
 			System.out.println("9. Exit");
+			System.out.println("10. Author Cache Statistics");
+			System.out.println("11. Query Statistics");
+			System.out.println("12. Look Up Authors Concurrently");
 
 			System.out.print("Enter you Choice:");
 			choice = scanner.nextInt();
@@ -44,8 +53,12 @@ public class Main {
 
 				System.out.print("Enter Author Name");
 				String name = scanner.nextLine();
-				author.addAuthor(name);
-				System.out.println("Author Added Successfully!");
+				try {
+					author.addAuthor(name);
+					System.out.println("Author Added Successfully!");
+				} catch (LibraryDataException e) {
+					System.out.println("Error: " + e.getMessage());
+				}
 				break;
 			}
 			case 2: {
@@ -55,24 +68,42 @@ public class Main {
 				scanner.nextLine();
 				System.out.print("Enter Author New Name");
 				String name = scanner.nextLine();
-				author.updateAuthor(id, name);
-				System.out.println("Author Updated Successfully!");
+				try {
+					if (author.updateAuthor(id, name)) {
+						System.out.println("Author Updated Successfully!");
+					} else {
+						System.out.println("Author " + id + " not found");
+					}
+				} catch (LibraryDataException e) {
+					System.out.println("Error: " + e.getMessage());
+				}
 				break;
 			}
 			case 3: {
 
 				System.out.print("Enter Author ID to delete");
 				int id = scanner.nextInt();
-				author.deleteAuthor(id);
-				System.out.println("Author Deleted Successfully!");
+				try {
+					if (author.deleteAuthor(id)) {
+						System.out.println("Author Deleted Successfully!");
+					} else {
+						System.out.println("Author " + id + " not found");
+					}
+				} catch (LibraryDataException e) {
+					System.out.println("Error: " + e.getMessage());
+				}
 				break;
 			}
 			case 4: {
 
 				System.out.print("List of All Authors");
 
-				for (String name : author.getAllAuthor()) {
-					System.out.println(name);
+				try {
+					for (String name : author.getAllAuthor()) {
+						System.out.println(name);
+					}
+				} catch (LibraryDataException e) {
+					System.out.println("Error: " + e.getMessage());
 				}
 				break;
 			}
@@ -84,9 +115,13 @@ public class Main {
 				System.out.print("Enter Author ID: ");
 				int id = scanner.nextInt();
 
-				book.addBook(title, id);
+				try {
+					book.addBook(title, id);
 
-				System.out.println("Author Added Successfully!");
+					System.out.println("Author Added Successfully!");
+				} catch (LibraryDataException e) {
+					System.out.println("Error: " + e.getMessage());
+				}
 				break;
 			}
 			case 6: {
@@ -99,25 +134,42 @@ public class Main {
 				System.out.print("Enter Book New Auhtor ID");
 				int authId = scanner.nextInt();
 
-				book.updateBook(bId, name, authId);
-
-				System.out.println("Author Updated Successfully!");
+				try {
+					if (book.updateBook(bId, name, authId)) {
+						System.out.println("Author Updated Successfully!");
+					} else {
+						System.out.println("Book " + bId + " not found");
+					}
+				} catch (LibraryDataException e) {
+					System.out.println("Error: " + e.getMessage());
+				}
 				break;
 			}
 			case 7: {
 
 				System.out.print("Enter Book ID to delete");
 				int id = scanner.nextInt();
-				book.deleteBook(id);
-				System.out.println("Book Deleted Successfully!");
+				try {
+					if (book.deleteBook(id)) {
+						System.out.println("Book Deleted Successfully!");
+					} else {
+						System.out.println("Book " + id + " not found");
+					}
+				} catch (LibraryDataException e) {
+					System.out.println("Error: " + e.getMessage());
+				}
 				break;
 			}
 			case 8: {
 
 				System.out.print("List of All books");
 
-				for (String name : book.getAllBooks()) {
-					System.out.println(name);
+				try {
+					for (String name : book.getAllBooks()) {
+						System.out.println(name);
+					}
+				} catch (LibraryDataException e) {
+					System.out.println("Error: " + e.getMessage());
 				}
 				break;
 			}
@@ -127,6 +179,38 @@ public class Main {
 
 				break;
 			}
+			case 10: {
+
+				System.out.println(authorCache.getStats());
+				break;
+			}
+			case 11: {
+
+				System.out.print(metrics.report());
+				break;
+			}
+			case 12: {
+
+				System.out.print("Enter Author IDs (comma separated)");
+				String[] ids = scanner.nextLine().split(",");
+				try (ConnectionPool pool = new ConnectionPool(Math.min(ids.length, 4), metrics);
+						AsyncLibrary library = new AsyncLibrary(pool, authorCache, 5_000)) {
+					List<CompletableFuture<String>> names = new ArrayList<>();
+					for (String id : ids) {
+						names.add(library.getAuthorName(Integer.parseInt(id.trim())));
+					}
+					for (int i = 0; i < ids.length; i++) {
+						try {
+							System.out.println("Author Id: " + ids[i].trim() + ", Author Name: " + names.get(i).join());
+						} catch (CompletionException e) {
+							System.out.println("Author Id: " + ids[i].trim() + ", Error: " + e.getCause().getMessage());
+						}
+					}
+				} catch (LibraryDataException | NumberFormatException e) {
+					System.out.println("Error: " + e.getMessage());
+				}
+				break;
+			}
 
 			default:
 				System.out.println("Invalid choice. Please try agin.");
@@ -0,0 +1,87 @@
+package library_mangement_system;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ * Writes NDJSON lines into gzip-compressed files and starts a new file every
+ * maxLinesPerFile lines, e.g. books-snapshot-00001.ndjson.gz,
+ * books-snapshot-00002.ndjson.gz ...
+ *
+ * Only the current file is open, so memory use does not depend on how many
+ * rows are written.
+ */
+public class NdjsonFileWriter implements AutoCloseable {
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private Path directory;
+	private String prefix;
+	private long maxLinesPerFile;
+	private Writer writer;
+	private int fileIndex;
+	private long linesInFile;
+	private long totalLines;
+	private List<Path> files = new ArrayList<>();
+
+	public NdjsonFileWriter(Path directory, String prefix, long maxLinesPerFile) {
+		this.directory = directory;
+		this.prefix = prefix;
+		this.maxLinesPerFile = maxLinesPerFile;
+	}
+
+	public void write(String jsonLine) throws IOException {
+		if (writer == null || linesInFile >= maxLinesPerFile) {
+			rotate();
+		}
+		writer.write(jsonLine);
+		writer.write('\n');
+		linesInFile++;
+		totalLines++;
+	}
+
+	/*
+	 * Finishes the current file, so every line written so far is in a complete
+	 * gzip file; the next write starts a new one. Call before recording progress.
+	 */
+	public void endFile() throws IOException {
+		close();
+	}
+
+	public long getTotalLines() {
+		return totalLines;
+	}
+
+	public List<Path> getFiles() {
+		return files;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (writer != null) {
+			writer.close();
+			writer = null;
+		}
+	}
+
+	private void rotate() throws IOException {
+		close();
+		fileIndex++;
+		Path file = directory.resolve(String.format("%s-%05d.ndjson.gz", prefix, fileIndex));
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		GZIPOutputStream gzip = new GZIPOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+		writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+		files.add(file);
+		linesInFile = 0;
+	}
+}
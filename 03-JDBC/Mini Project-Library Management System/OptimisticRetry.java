@@ -0,0 +1,46 @@
+package library_mangement_system;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/*
+ * Re-runs a read-modify-write attempt when it loses an optimistic-locking
+ * race. The attempt must read the current version itself, so every retry
+ * works on fresh data. Only StaleVersionException is retried; a
+ * RecordNotFoundException from the version read ends the loop at once.
+ *
+ *	OptimisticRetry.run(5, () -> {
+ *		int version = author.getAuthorVersion(id);
+ *		author.updateAuthor(id, newName, version);
+ *		return null;
+ *	});
+ */
+public class OptimisticRetry {
+	private static final long BASE_BACKOFF_MS = 5;
+
+	private OptimisticRetry() {
+	}
+
+	public static <T> T run(int maxAttempts, Supplier<T> attempt) {
+		for (int i = 1;; i++) {
+			try {
+				return attempt.get();
+			} catch (StaleVersionException e) {
+				if (i >= maxAttempts) {
+					throw e;
+				}
+				backoff(i);
+			}
+		}
+	}
+
+	private static void backoff(int attempt) {
+		long delay = BASE_BACKOFF_MS << Math.min(attempt - 1, 6);
+		try {
+			Thread.sleep(ThreadLocalRandom.current().nextLong(delay + 1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new LibraryDataException("Interrupted while retrying an optimistic update", e);
+		}
+	}
+}
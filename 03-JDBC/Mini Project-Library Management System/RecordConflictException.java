@@ -0,0 +1,18 @@
+package library_mangement_system;
+
+/*
+ * Raised when a write clashes with the current state of the database:
+ * a duplicate key or foreign key violation, a deadlock or lock wait
+ * timeout, or (as StaleVersionException) a lost compare-and-set race.
+ */
+public class RecordConflictException extends LibraryDataException {
+	private static final long serialVersionUID = 1L;
+
+	public RecordConflictException(String message) {
+		super(message);
+	}
+
+	public RecordConflictException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,13 @@
+package library_mangement_system;
+
+/*
+ * Raised when a row the caller asked for by id does not exist (any more).
+ * Not retried by OptimisticRetry: a deleted row never comes back.
+ */
+public class RecordNotFoundException extends LibraryDataException {
+	private static final long serialVersionUID = 1L;
+
+	public RecordNotFoundException(String table, int id) {
+		super(table + " " + id + " does not exist");
+	}
+}
@@ -0,0 +1,13 @@
+package library_mangement_system;
+
+/*
+ * Raised by a compare-and-set update when the row was changed (or deleted)
+ * by someone else after the caller read its version.
+ */
+public class StaleVersionException extends RecordConflictException {
+	private static final long serialVersionUID = 1L;
+
+	public StaleVersionException(String table, int id, int expectedVersion) {
+		super(table + " " + id + " is no longer at version " + expectedVersion);
+	}
+}
@@ -0,0 +1,21 @@
+-- Schema changes used by LibraryExporter for incremental exports.
+-- Run once against the `library` database.
+--
+-- updated_at keeps microseconds, so the (updated_at, id) order of the export
+-- is stable and rows changed within the same second are told apart.
+
+USE library;
+
+ALTER TABLE authors
+    ADD COLUMN updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    ADD INDEX idx_authors_updated_at (updated_at, id);
+
+ALTER TABLE books
+    ADD COLUMN updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    ADD INDEX idx_books_updated_at (updated_at, id);
+
+-- Databases that already have the second-precision column from an earlier
+-- version of this script only need:
+--
+-- ALTER TABLE authors MODIFY updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+-- ALTER TABLE books MODIFY updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
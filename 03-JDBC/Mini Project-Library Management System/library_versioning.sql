@@ -0,0 +1,12 @@
+-- Version columns used by the optimistic-locking updates in Author and Book.
+-- Run once against the `library` database before using the menu or the
+-- compare-and-set updates. Every update increments the version, including
+-- the menu's plain updateAuthor/updateBook: otherwise a compare-and-set
+-- writer that read the old version would still match it and silently
+-- overwrite the plain edit.
+
+USE library;
+
+ALTER TABLE authors ADD COLUMN version INT NOT NULL DEFAULT 0;
+
+ALTER TABLE books ADD COLUMN version INT NOT NULL DEFAULT 0;
@@ -1,39 +1,102 @@
 package com.example.rest.controller;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.example.rest.entity.Student;
+import com.example.rest.store.StudentStore;
 
 import jakarta.annotation.PostConstruct;
 
 @RestController
 @RequestMapping("/api")
 public class StudentRestController {
-	List<Student> students = new ArrayList<Student>();
+
+	@Autowired
+	private StudentStore students;
 
 	@PostConstruct
 	public void loadStudents() {
 
-		students.add(new Student("Liam", "Neeson"));  
-        students.add(new Student("Mario", "Rossi")); 
-        students.add(new Student("Ram", "Charan"));   
-        students.add(new Student("Amir", "Khan"));    
-        students.add(new Student("Bruce", "Willis")); 
+		students.add(new Student("Liam", "Neeson"));
+		students.add(new Student("Mario", "Rossi"));
+		students.add(new Student("Ram", "Charan"));
+		students.add(new Student("Amir", "Khan"));
+		students.add(new Student("Bruce", "Willis"));
 	}
 
+	// without a limit every student is returned; with one, the next page
+	// (if any) is announced through the X-Next-Cursor header
 	@GetMapping("/students")
-	public List<Student> getStudents() {
-		return students;
+	public ResponseEntity<List<Student>> getStudents(@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String cursor) {
+
+		if (limit == null) {
+			return ResponseEntity.ok(students.findAll());
+		}
+		if (limit < 1) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be positive - " + limit);
+		}
+		List<Student> page;
+		try {
+			page = students.page(cursor, limit);
+		} catch (IllegalArgumentException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+		}
+		String nextCursor = students.nextCursor(page, limit);
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (nextCursor != null) {
+			response.header("X-Next-Cursor", nextCursor);
+		}
+		return response.body(page);
 	}
 
 	@GetMapping("/students/{studentID}")
 	public Student getStudent(@PathVariable int studentID) {
-		return students.get(studentID);
+
+		Student student = students.findById(studentID);
+		if (student == null) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "student id not found - " + studentID);
+
+		}
+		return student;
 	}
+
+	@PostMapping("/students")
+	public ResponseEntity<Student> addStudent(@RequestBody Student student) {
+		return new ResponseEntity<Student>(students.add(student), HttpStatus.CREATED);
+	}
+
+	@PutMapping("/students/{studentID}")
+	public Student updateStudent(@PathVariable int studentID, @RequestBody Student student) {
+
+		Student updated = students.update(studentID, student);
+		if (updated == null) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "student id not found - " + studentID);
+		}
+		return updated;
+	}
+
+	@DeleteMapping("/students/{studentID}")
+	public ResponseEntity<Void> deleteStudent(@PathVariable int studentID) {
+
+		if (students.delete(studentID) == null) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "student id not found - " + studentID);
+		}
+		return ResponseEntity.noContent().build();
+	}
+
 }
@@ -1,26 +1,35 @@
 package com.example.rest.controller;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.rest.entity.Student;
 import com.example.rest.entity.StudentErrorReponse;
+import com.example.rest.store.StudentStore;
 
+import exception.InvalidPageRequestException;
 import exception.StudentNotFoundException;
 import jakarta.annotation.PostConstruct;
 
 @RestController
 @RequestMapping("/api")
 public class StudentRestController {
-	List<Student> students = new ArrayList<Student>();
+
+	@Autowired
+	private StudentStore students;
 
 	@PostConstruct
 	public void loadStudents() {
@@ -32,19 +41,60 @@ public class StudentRestController {
 		students.add(new Student("Amir", "Singh"));
 	}
 
+	// without a limit every student is returned; with one, the next page
+	// (if any) is announced through the X-Next-Cursor header
 	@GetMapping("/students")
-	public List<Student> getStudents() {
-		return students;
+	public ResponseEntity<List<Student>> getStudents(@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String cursor) {
+
+		if (limit == null) {
+			return ResponseEntity.ok(students.findAll());
+		}
+		if (limit < 1) {
+			throw new InvalidPageRequestException("limit must be positive - " + limit);
+		}
+		List<Student> page = students.page(cursor, limit);
+		String nextCursor = students.nextCursor(page, limit);
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (nextCursor != null) {
+			response.header("X-Next-Cursor", nextCursor);
+		}
+		return response.body(page);
 	}
 
 	@GetMapping("/students/{studentID}")
 	public Student getStudent(@PathVariable int studentID) {
 
-		if (studentID >= students.size() || studentID < 0) {
+		Student student = students.findById(studentID);
+		if (student == null) {
+			throw new StudentNotFoundException("student id not found - " + studentID);
+
+		}
+		return student;
+	}
+
+	@PostMapping("/students")
+	public ResponseEntity<Student> addStudent(@RequestBody Student student) {
+		return new ResponseEntity<Student>(students.add(student), HttpStatus.CREATED);
+	}
+
+	@PutMapping("/students/{studentID}")
+	public Student updateStudent(@PathVariable int studentID, @RequestBody Student student) {
+
+		Student updated = students.update(studentID, student);
+		if (updated == null) {
 			throw new StudentNotFoundException("student id not found - " + studentID);
+		}
+		return updated;
+	}
 
+	@DeleteMapping("/students/{studentID}")
+	public ResponseEntity<Void> deleteStudent(@PathVariable int studentID) {
+
+		if (students.delete(studentID) == null) {
+			throw new StudentNotFoundException("student id not found - " + studentID);
 		}
-		return students.get(studentID);
+		return ResponseEntity.noContent().build();
 	}
 
 	@ExceptionHandler
@@ -58,4 +108,16 @@ public class StudentRestController {
 		return new ResponseEntity<StudentErrorReponse>(error, HttpStatus.NOT_FOUND);
 
 	}
+
+	@ExceptionHandler
+	public ResponseEntity<StudentErrorReponse> handleException(InvalidPageRequestException e) {
+
+		StudentErrorReponse error = new StudentErrorReponse();
+		error.setStatus(HttpStatus.BAD_REQUEST.value());
+		error.setMesssage(e.getMessage());
+		error.setTimeStamp(System.currentTimeMillis());
+
+		return new ResponseEntity<StudentErrorReponse>(error, HttpStatus.BAD_REQUEST);
+
+	}
 }
@@ -1,6 +1,7 @@
 package com.example.rest.entity;
 
 public class Student {
+	private int id;
 	private String firstName;
 	private String lastName;
 
@@ -14,6 +15,20 @@ public class Student {
 		this.lastName = lastName;
 	}
 
+	public Student(int id, String firstName, String lastName) {
+		this.id = id;
+		this.firstName = firstName;
+		this.lastName = lastName;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public void setId(int id) {
+		this.id = id;
+	}
+
 	public String getFirstName() {
 		return firstName;
 	}
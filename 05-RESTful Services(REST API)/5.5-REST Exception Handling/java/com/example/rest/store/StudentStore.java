@@ -0,0 +1,95 @@
+package com.example.rest.store;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import com.example.rest.entity.Student;
+
+import exception.InvalidPageRequestException;
+
+/*
+ * Thread-safe in-memory student store keyed by a stable id.
+ *
+ * Ids are handed out once and never reused, so deleting a student does not
+ * shift anyone else's id. Entries are kept sorted by id, which lets a page
+ * continue from an opaque cursor (the last id seen) in O(log n).
+ * Stored students are never mutated in place; updates swap in a new object.
+ */
+@Component
+public class StudentStore {
+
+	private final ConcurrentNavigableMap<Integer, Student> students = new ConcurrentSkipListMap<>();
+	private final AtomicInteger nextId = new AtomicInteger();
+
+	public Student add(Student student) {
+		int id = nextId.getAndIncrement();
+		Student stored = new Student(id, student.getFirstName(), student.getLastName());
+		students.put(id, stored);
+		return stored;
+	}
+
+	public Student findById(int id) {
+		return students.get(id);
+	}
+
+	public List<Student> findAll() {
+		return new ArrayList<>(students.values());
+	}
+
+	public Student update(int id, Student student) {
+		return students.computeIfPresent(id,
+				(key, existing) -> new Student(id, student.getFirstName(), student.getLastName()));
+	}
+
+	public Student delete(int id) {
+		return students.remove(id);
+	}
+
+	public int size() {
+		return students.size();
+	}
+
+	/*
+	 * Returns up to limit students after the cursor (null for the first page).
+	 * The last element of the returned list feeds nextCursor().
+	 */
+	public List<Student> page(String cursor, int limit) {
+		ConcurrentNavigableMap<Integer, Student> view = cursor == null ? students
+				: students.tailMap(decodeCursor(cursor), false);
+		List<Student> page = new ArrayList<>(Math.min(limit, 256));
+		for (Student student : view.values()) {
+			if (page.size() == limit) {
+				break;
+			}
+			page.add(student);
+		}
+		return page;
+	}
+
+	public String nextCursor(List<Student> page, int limit) {
+		if (page.size() < limit) {
+			return null;
+		}
+		int lastId = page.get(page.size() - 1).getId();
+		if (students.higherKey(lastId) == null) {
+			return null;
+		}
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static int decodeCursor(String cursor) {
+		try {
+			return Integer.parseInt(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+		} catch (IllegalArgumentException e) {
+			throw new InvalidPageRequestException("Invalid cursor - " + cursor, e);
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package com.example.rest.controller;
+
+/*
+ * Strong entity tags built from the values a representation is made of, so a
+ * tag can be compared before anything is serialized.
+ */
+final class ETags {
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private ETags() {
+	}
+
+	// quoted 64-bit FNV-1a hash of the parts, e.g. "9f3c0a7d2e41b655"
+	static String of(Object... parts) {
+		long hash = FNV_OFFSET;
+		for (Object part : parts) {
+			String text = part == null ? "\u0001null" : part.toString();
+			for (int i = 0; i < text.length(); i++) {
+				hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+			}
+			// separator, so ("ab", "c") and ("a", "bc") differ
+			hash *= FNV_PRIME;
+		}
+		return "\"" + Long.toHexString(hash) + "\"";
+	}
+
+	// If-None-Match uses weak comparison, so W/"x" matches "x"
+	static boolean matches(String ifNoneMatch, String eTag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			candidate = candidate.trim();
+			if (candidate.startsWith("W/")) {
+				candidate = candidate.substring(2);
+			}
+			if (candidate.equals("*") || candidate.equals(eTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
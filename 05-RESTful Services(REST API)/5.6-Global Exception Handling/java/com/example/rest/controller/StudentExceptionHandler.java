@@ -1,27 +1,45 @@
 package com.example.rest.controller;
 
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import java.io.IOException;
+
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
-import com.example.rest.entity.StudentErrorReponse;
+import com.example.rest.entity.StudentErrorTemplate;
 
+import exception.InvalidPageRequestException;
 import exception.StudentNotFoundException;
+import jakarta.servlet.http.HttpServletResponse;
 
 @ControllerAdvice
 public class StudentExceptionHandler {
 
+	// errors are written straight from pre-serialized templates; the JSON is the
+	// same as a serialized StudentErrorReponse, without building one (or a
+	// ResponseEntity) and running it through Jackson for every miss
+	@ExceptionHandler
+	public void handleException(StudentNotFoundException e, HttpServletResponse response) throws IOException {
+
+		writeError(response, StudentErrorTemplate.NOT_FOUND, e.getMessage());
+
+	}
+
 	@ExceptionHandler
-	public ResponseEntity<StudentErrorReponse> handleException(StudentNotFoundException e) {
+	public void handleException(InvalidPageRequestException e, HttpServletResponse response) throws IOException {
 
-		StudentErrorReponse error = new StudentErrorReponse();
-		error.setStatus(HttpStatus.NOT_FOUND.value());
-		error.setMesssage(e.getMessage());
-		error.setTimeStamp(System.currentTimeMillis());
+		writeError(response, StudentErrorTemplate.BAD_REQUEST, e.getMessage());
+
+	}
 
-		return new ResponseEntity<StudentErrorReponse>(error, HttpStatus.NOT_FOUND);
+	private static void writeError(HttpServletResponse response, StudentErrorTemplate template, String message)
+			throws IOException {
 
+		byte[] body = template.render(message, System.currentTimeMillis());
+		response.setStatus(template.getStatus());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
 	}
 
 }
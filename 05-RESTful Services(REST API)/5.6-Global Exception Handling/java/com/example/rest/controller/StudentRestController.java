@@ -1,22 +1,56 @@
 package com.example.rest.controller;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.rest.entity.Student;
+import com.example.rest.store.StudentStore;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
+import exception.InvalidPageRequestException;
 import exception.StudentNotFoundException;
 import jakarta.annotation.PostConstruct;
 
 @RestController
 @RequestMapping("/api")
 public class StudentRestController {
-	List<Student> students = new ArrayList<Student>();
+
+	// rows serialized between explicit flushes of the streaming endpoints
+	private static final int FLUSH_EVERY = 500;
+
+	@Autowired
+	private StudentStore students;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	// Cache-Control sent with GET /students and GET /students/{id}; the default
+	// lets clients keep a copy but revalidate it (cheaply, via ETag) every time
+	@Value("${students.cache-control.list:no-cache}")
+	private String listCacheControl;
+
+	@Value("${students.cache-control.item:no-cache}")
+	private String itemCacheControl;
 
 	@PostConstruct
 	public void loadStudents() {
@@ -28,19 +62,118 @@ public class StudentRestController {
 		students.add(new Student("Amir", "Singh"));
 	}
 
+	// without a limit every student is returned; with one, the next page
+	// (if any) is announced through the X-Next-Cursor header.
+	// The ETag is the store version, so an unchanged store answers 304
+	// without building or serializing the list.
 	@GetMapping("/students")
-	public List<Student> getStudents() {
-		return students;
+	public ResponseEntity<List<Student>> getStudents(@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String cursor,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+		if (limit != null && limit < 1) {
+			throw new InvalidPageRequestException("limit must be positive - " + limit);
+		}
+		String eTag = ETags.of(students.getVersion());
+		if (ETags.matches(ifNoneMatch, eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag)
+					.header(HttpHeaders.CACHE_CONTROL, listCacheControl).build();
+		}
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(eTag).header(HttpHeaders.CACHE_CONTROL,
+				listCacheControl);
+		if (limit == null) {
+			return response.body(students.findAll());
+		}
+		List<Student> page = students.page(cursor, limit);
+		String nextCursor = students.nextCursor(page, limit);
+		if (nextCursor != null) {
+			response.header("X-Next-Cursor", nextCursor);
+		}
+		return response.body(page);
+	}
+
+	// same JSON array as /students, written student by student instead of
+	// being buffered as one big List first
+	@GetMapping(value = "/students/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+	public StreamingResponseBody streamStudents() {
+		ObjectWriter writer = studentWriter();
+		return out -> {
+			try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+				generator.writeStartArray();
+				int rows = 0;
+				for (Student student : students.values()) {
+					writer.writeValue(generator, student);
+					if (++rows % FLUSH_EVERY == 0) {
+						generator.flush();
+					}
+				}
+				generator.writeEndArray();
+			}
+		};
+	}
+
+	// one JSON object per line (application/x-ndjson)
+	@GetMapping(value = "/students/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public StreamingResponseBody streamStudentsNdjson() {
+		ObjectWriter writer = studentWriter();
+		return out -> {
+			try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+				generator.setRootValueSeparator(null);
+				int rows = 0;
+				for (Student student : students.values()) {
+					writer.writeValue(generator, student);
+					generator.writeRaw('\n');
+					if (++rows % FLUSH_EVERY == 0) {
+						generator.flush();
+					}
+				}
+			}
+		};
 	}
 
 	@GetMapping("/students/{studentID}")
-	public Student getStudent(@PathVariable int studentID) {
+	public ResponseEntity<Student> getStudent(@PathVariable int studentID,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-		if (studentID >= students.size() || studentID < 0) {
+		Student student = students.findById(studentID);
+		if (student == null) {
 			throw new StudentNotFoundException("student id not found - " + studentID);
 
 		}
-		return students.get(studentID);
+		String eTag = ETags.of(student.getId(), student.getFirstName(), student.getLastName());
+		if (ETags.matches(ifNoneMatch, eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag)
+					.header(HttpHeaders.CACHE_CONTROL, itemCacheControl).build();
+		}
+		return ResponseEntity.ok().eTag(eTag).header(HttpHeaders.CACHE_CONTROL, itemCacheControl).body(student);
+	}
+
+	@PostMapping("/students")
+	public ResponseEntity<Student> addStudent(@RequestBody Student student) {
+		return new ResponseEntity<Student>(students.add(student), HttpStatus.CREATED);
+	}
+
+	@PutMapping("/students/{studentID}")
+	public Student updateStudent(@PathVariable int studentID, @RequestBody Student student) {
+
+		Student updated = students.update(studentID, student);
+		if (updated == null) {
+			throw new StudentNotFoundException("student id not found - " + studentID);
+		}
+		return updated;
+	}
+
+	@DeleteMapping("/students/{studentID}")
+	public ResponseEntity<Void> deleteStudent(@PathVariable int studentID) {
+
+		if (students.delete(studentID) == null) {
+			throw new StudentNotFoundException("student id not found - " + studentID);
+		}
+		return ResponseEntity.noContent().build();
+	}
+
+	private ObjectWriter studentWriter() {
+		return objectMapper.writerFor(Student.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
 	}
 
 }
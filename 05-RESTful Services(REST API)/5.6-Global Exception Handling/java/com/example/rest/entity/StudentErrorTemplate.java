@@ -0,0 +1,117 @@
+package com.example.rest.entity;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+ * Pre-serialized form of StudentErrorReponse for one status code. There is
+ * one template per status StudentExceptionHandler sends: 404 for unknown ids
+ * and 400 for bad paging input.
+ *
+ * The constant parts of {"status":404,"messsage":"...","timeStamp":...} are
+ * encoded once; render() only copies them around the escaped message and the
+ * timestamp into a single byte array, with the same field names Jackson
+ * produces for StudentErrorReponse.
+ */
+public final class StudentErrorTemplate {
+
+	public static final StudentErrorTemplate BAD_REQUEST = new StudentErrorTemplate(400);
+	public static final StudentErrorTemplate NOT_FOUND = new StudentErrorTemplate(404);
+
+	private static final byte[] MIDDLE = "\",\"timeStamp\":".getBytes(StandardCharsets.US_ASCII);
+	private static final byte SUFFIX = '}';
+
+	private final int status;
+	private final byte[] prefix;
+
+	private StudentErrorTemplate(int status) {
+		this.status = status;
+		this.prefix = ("{\"status\":" + status + ",\"messsage\":\"").getBytes(StandardCharsets.US_ASCII);
+	}
+
+	public int getStatus() {
+		return status;
+	}
+
+	public byte[] render(String message, long timeStamp) {
+		if (message == null) {
+			message = "";
+		}
+		if (!isPlainAscii(message)) {
+			return renderEscaped(message, timeStamp);
+		}
+		int digits = digits(timeStamp);
+		byte[] body = new byte[prefix.length + message.length() + MIDDLE.length + digits + 1];
+		System.arraycopy(prefix, 0, body, 0, prefix.length);
+		int pos = prefix.length;
+		for (int i = 0; i < message.length(); i++) {
+			body[pos++] = (byte) message.charAt(i);
+		}
+		System.arraycopy(MIDDLE, 0, body, pos, MIDDLE.length);
+		pos += MIDDLE.length;
+		writeDigits(body, pos, digits, timeStamp);
+		body[body.length - 1] = SUFFIX;
+		return body;
+	}
+
+	// printable ASCII with nothing JSON needs escaped
+	private static boolean isPlainAscii(String message) {
+		for (int i = 0; i < message.length(); i++) {
+			char c = message.charAt(i);
+			if (c < 0x20 || c > 0x7e || c == '"' || c == '\\') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private byte[] renderEscaped(String message, long timeStamp) {
+		StringBuilder json = new StringBuilder(message.length() + 16);
+		for (int i = 0; i < message.length(); i++) {
+			char c = message.charAt(i);
+			if (c == '"' || c == '\\') {
+				json.append('\\').append(c);
+			} else if (c < 0x20) {
+				json.append(String.format("\\u%04x", (int) c));
+			} else {
+				json.append(c);
+			}
+		}
+		byte[] escaped = json.toString().getBytes(StandardCharsets.UTF_8);
+		byte[] stamp = Long.toString(timeStamp).getBytes(StandardCharsets.US_ASCII);
+		byte[] body = new byte[prefix.length + escaped.length + MIDDLE.length + stamp.length + 1];
+		int pos = 0;
+		System.arraycopy(prefix, 0, body, pos, prefix.length);
+		pos += prefix.length;
+		System.arraycopy(escaped, 0, body, pos, escaped.length);
+		pos += escaped.length;
+		System.arraycopy(MIDDLE, 0, body, pos, MIDDLE.length);
+		pos += MIDDLE.length;
+		System.arraycopy(stamp, 0, body, pos, stamp.length);
+		body[body.length - 1] = SUFFIX;
+		return body;
+	}
+
+	private static int digits(long value) {
+		if (value < 0) {
+			return 1 + digits(value == Long.MIN_VALUE ? Long.MAX_VALUE : -value);
+		}
+		int digits = 1;
+		while (value >= 10) {
+			value /= 10;
+			digits++;
+		}
+		return digits;
+	}
+
+	private static void writeDigits(byte[] body, int pos, int digits, long value) {
+		if (value < 0) {
+			byte[] text = Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+			System.arraycopy(text, 0, body, pos, text.length);
+			return;
+		}
+		for (int i = pos + digits - 1; i >= pos; i--) {
+			body[i] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+	}
+}
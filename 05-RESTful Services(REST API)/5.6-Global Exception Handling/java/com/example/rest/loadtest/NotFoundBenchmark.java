@@ -0,0 +1,94 @@
+package com.example.rest.loadtest;
+
+import com.example.rest.entity.StudentErrorReponse;
+import com.example.rest.entity.StudentErrorTemplate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import exception.StudentNotFoundException;
+
+/*
+ * Compares the cost of producing one 404 body the old way and the new way:
+ *
+ * - old: exception with a filled-in stack trace, a StudentErrorReponse and
+ *   ObjectMapper.writeValueAsBytes
+ * - new: stackless StudentNotFoundException rendered through
+ *   StudentErrorTemplate
+ *
+ * Exceptions are thrown from `depth` frames down to mimic a Spring MVC call
+ * stack. Run with:
+ *	java com.example.rest.loadtest.NotFoundBenchmark 5 120
+ */
+public class NotFoundBenchmark {
+
+	private static class StackTraceNotFoundException extends RuntimeException {
+		StackTraceNotFoundException(String message) {
+			super(message);
+		}
+	}
+
+	private interface Path {
+		byte[] respond(int id) throws Exception;
+	}
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private static int depth;
+	private static long sink;
+
+	public static void main(String[] args) throws Exception {
+		int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+		depth = args.length > 1 ? Integer.parseInt(args[1]) : 120;
+
+		Path old = id -> {
+			try {
+				throwAt(depth, () -> new StackTraceNotFoundException("student id not found - " + id));
+			} catch (StackTraceNotFoundException e) {
+				return MAPPER.writeValueAsBytes(new StudentErrorReponse(404, e.getMessage(), System.currentTimeMillis()));
+			}
+			return null;
+		};
+		Path cheap = id -> {
+			try {
+				throwAt(depth, () -> new StudentNotFoundException("student id not found - " + id));
+			} catch (StudentNotFoundException e) {
+				return StudentErrorTemplate.NOT_FOUND.render(e.getMessage(), System.currentTimeMillis());
+			}
+			return null;
+		};
+
+		// warm up both paths before measuring
+		run(old, 1);
+		run(cheap, 1);
+
+		double oldRate = run(old, seconds);
+		double cheapRate = run(cheap, seconds);
+		System.out.printf("stack trace + ObjectMapper: %,.0f responses/sec%n", oldRate);
+		System.out.printf("stackless + template:       %,.0f responses/sec%n", cheapRate);
+		System.out.printf("speedup: %.1fx  (sink %d)%n", cheapRate / oldRate, sink);
+	}
+
+	private static double run(Path path, int seconds) throws Exception {
+		long end = System.nanoTime() + seconds * 1_000_000_000L;
+		long count = 0;
+		long start = System.nanoTime();
+		while (System.nanoTime() < end) {
+			for (int i = 0; i < 1_000; i++) {
+				sink += path.respond(i).length;
+			}
+			count += 1_000;
+		}
+		return count / ((System.nanoTime() - start) / 1_000_000_000.0);
+	}
+
+	private interface Thrower {
+		RuntimeException create();
+	}
+
+	private static void throwAt(int frames, Thrower thrower) {
+		if (frames > 0) {
+			throwAt(frames - 1, thrower);
+			return;
+		}
+		throw thrower.create();
+	}
+}
@@ -0,0 +1,114 @@
+package com.example.rest.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Open-loop load generator for the student API.
+ *
+ * Start the application first, then run:
+ *	java com.example.rest.loadtest.StudentApiLoadTest http://localhost:8080 10000 30
+ *
+ * Requests are fired on a fixed schedule (targetRps, independent of how fast
+ * responses come back) as a 90/5/5 mix of GET /api/students/{id},
+ * GET /api/students?limit=20 and PUT /api/students/{id}. Latency is measured
+ * from the scheduled send time, so queueing delay is not hidden, and p50/p99
+ * are printed for every second of the run.
+ */
+public class StudentApiLoadTest {
+
+	private record Sample(int second, long micros, boolean ok) {
+	}
+
+	public static void main(String[] args) throws Exception {
+		String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+		int targetRps = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+		int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+		HttpClient client = HttpClient.newBuilder().executor(Executors.newFixedThreadPool(32))
+				.connectTimeout(Duration.ofSeconds(5)).build();
+		ConcurrentLinkedQueue<Sample> samples = new ConcurrentLinkedQueue<>();
+		AtomicLong errors = new AtomicLong();
+		long total = (long) targetRps * seconds;
+		CountDownLatch done = new CountDownLatch((int) total);
+
+		long start = System.nanoTime();
+		long intervalNanos = 1_000_000_000L / targetRps;
+		for (long i = 0; i < total; i++) {
+			long scheduled = start + i * intervalNanos;
+			long wait = scheduled - System.nanoTime();
+			if (wait > 200_000) {
+				Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+			}
+			int second = (int) ((scheduled - start) / 1_000_000_000L);
+			client.sendAsync(nextRequest(baseUrl), HttpResponse.BodyHandlers.discarding())
+					.whenComplete((response, failure) -> {
+						boolean ok = failure == null && response.statusCode() < 500;
+						if (!ok) {
+							errors.incrementAndGet();
+						}
+						samples.add(new Sample(second, (System.nanoTime() - scheduled) / 1_000, ok));
+						done.countDown();
+					});
+		}
+		done.await();
+		double elapsed = (System.nanoTime() - start) / 1_000_000_000.0;
+
+		List<List<Long>> perSecond = new ArrayList<>();
+		for (int s = 0; s < seconds; s++) {
+			perSecond.add(new ArrayList<>());
+		}
+		List<Long> all = new ArrayList<>(samples.size());
+		for (Sample sample : samples) {
+			perSecond.get(Math.min(sample.second(), seconds - 1)).add(sample.micros());
+			all.add(sample.micros());
+		}
+
+		System.out.println("second\trequests\tp50(ms)\tp99(ms)");
+		for (int s = 0; s < seconds; s++) {
+			long[] window = perSecond.get(s).stream().mapToLong(Long::longValue).toArray();
+			System.out.printf("%d\t%d\t\t%.2f\t%.2f%n", s, window.length, percentile(window, 50) / 1000.0,
+					percentile(window, 99) / 1000.0);
+		}
+		long[] overall = all.stream().mapToLong(Long::longValue).toArray();
+		System.out.printf("Total %d requests in %.1f s (%.0f req/s), errors %d, p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+				overall.length, elapsed, overall.length / elapsed, errors.get(), percentile(overall, 50) / 1000.0,
+				percentile(overall, 99) / 1000.0, percentile(overall, 100) / 1000.0);
+		System.exit(0);
+	}
+
+	private static HttpRequest nextRequest(String baseUrl) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int id = random.nextInt(5);
+		int roll = random.nextInt(100);
+		if (roll < 90) {
+			return HttpRequest.newBuilder(URI.create(baseUrl + "/api/students/" + id)).GET().build();
+		}
+		if (roll < 95) {
+			return HttpRequest.newBuilder(URI.create(baseUrl + "/api/students?limit=20")).GET().build();
+		}
+		String body = "{\"firstName\":\"Load\",\"lastName\":\"Test" + random.nextInt(1000) + "\"}";
+		return HttpRequest.newBuilder(URI.create(baseUrl + "/api/students/" + id))
+				.header("Content-Type", "application/json").PUT(HttpRequest.BodyPublishers.ofString(body)).build();
+	}
+
+	private static long percentile(long[] values, double percentile) {
+		if (values.length == 0) {
+			return 0;
+		}
+		Arrays.sort(values);
+		int index = (int) Math.ceil(values.length * percentile / 100.0) - 1;
+		return values[Math.max(0, Math.min(index, values.length - 1))];
+	}
+}
@@ -0,0 +1,125 @@
+package com.example.rest.store;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.example.rest.entity.Student;
+
+import exception.InvalidPageRequestException;
+
+/*
+ * Thread-safe in-memory student store keyed by a stable id.
+ *
+ * Ids are handed out once and never reused, so deleting a student does not
+ * shift anyone else's id. Entries are kept sorted by id, which lets a page
+ * continue from an opaque cursor (the last id seen) in O(log n).
+ * Stored students are never mutated in place; updates swap in a new object.
+ * Every change bumps getVersion(), which list responses use as their ETag.
+ */
+@Component
+public class StudentStore {
+
+	private final ConcurrentNavigableMap<Integer, Student> students = new ConcurrentSkipListMap<>();
+	private final AtomicInteger nextId = new AtomicInteger();
+	// random per instance, so versions from before a restart never match
+	private final long epoch = ThreadLocalRandom.current().nextLong();
+	private final AtomicLong changes = new AtomicLong();
+
+	public Student add(Student student) {
+		int id = nextId.getAndIncrement();
+		Student stored = new Student(id, student.getFirstName(), student.getLastName());
+		students.put(id, stored);
+		changes.incrementAndGet();
+		return stored;
+	}
+
+	public Student findById(int id) {
+		return students.get(id);
+	}
+
+	public List<Student> findAll() {
+		return new ArrayList<>(students.values());
+	}
+
+	public Student update(int id, Student student) {
+		Student updated = students.computeIfPresent(id,
+				(key, existing) -> new Student(id, student.getFirstName(), student.getLastName()));
+		if (updated != null) {
+			changes.incrementAndGet();
+		}
+		return updated;
+	}
+
+	public Student delete(int id) {
+		Student removed = students.remove(id);
+		if (removed != null) {
+			changes.incrementAndGet();
+		}
+		return removed;
+	}
+
+	/*
+	 * Changes only after a write has been applied. Read it before reading the
+	 * students: a write racing with the read then leaves an older version on
+	 * newer data, which costs one extra full response but never a wrong 304.
+	 */
+	public String getVersion() {
+		return Long.toHexString(epoch) + "." + changes.get();
+	}
+
+	// walks the live map in id order without copying it; concurrent changes
+	// may or may not be seen, but the walk never fails
+	public Iterable<Student> values() {
+		return students.values();
+	}
+
+	public int size() {
+		return students.size();
+	}
+
+	/*
+	 * Returns up to limit students after the cursor (null for the first page).
+	 * The last element of the returned list feeds nextCursor().
+	 */
+	public List<Student> page(String cursor, int limit) {
+		ConcurrentNavigableMap<Integer, Student> view = cursor == null ? students
+				: students.tailMap(decodeCursor(cursor), false);
+		List<Student> page = new ArrayList<>(Math.min(limit, 256));
+		for (Student student : view.values()) {
+			if (page.size() == limit) {
+				break;
+			}
+			page.add(student);
+		}
+		return page;
+	}
+
+	public String nextCursor(List<Student> page, int limit) {
+		if (page.size() < limit) {
+			return null;
+		}
+		int lastId = page.get(page.size() - 1).getId();
+		if (students.higherKey(lastId) == null) {
+			return null;
+		}
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static int decodeCursor(String cursor) {
+		try {
+			return Integer.parseInt(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+		} catch (IllegalArgumentException e) {
+			throw new InvalidPageRequestException("Invalid cursor - " + cursor, e);
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package exception;
+
+// a limit or cursor the client sent for GET /api/students cannot be used
+public class InvalidPageRequestException extends RuntimeException {
+
+	public InvalidPageRequestException(String message) {
+		super(message);
+	}
+
+	public InvalidPageRequestException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+}
@@ -2,8 +2,10 @@ package exception;
 
 public class StudentNotFoundException extends RuntimeException {
 
+	// thrown for every unknown id a client probes, and only its message is ever
+	// used, so skip filling in the (deep, Spring-sized) stack trace
 	public StudentNotFoundException(String message) {
-		super(message);
+		super(message, null, false, false);
 	}
 
 }
@@ -0,0 +1,87 @@
+package com.example.jpa.config;
+
+import static org.ehcache.config.builders.CacheConfigurationBuilder.newCacheConfigurationBuilder;
+import static org.ehcache.config.builders.ResourcePoolsBuilder.heap;
+
+import java.time.Duration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.persistence.SharedCacheMode;
+
+/*
+ * Hibernate second-level and query cache on JCache (Ehcache 3 underneath;
+ * needs org.hibernate.orm:hibernate-jcache and org.ehcache:ehcache:jakarta).
+ *
+ * Regions, each bounded by entry count and time-to-live:
+ *
+ *	student            Student entities by id
+ *	student-queries    ids returned by the cacheable findAll query
+ *
+ * Writes through the EntityManager update the entity region and invalidate
+ * the query region via Hibernate's update timestamps. Changes made outside
+ * this application are only picked up once the TTL runs out. Keep the query
+ * TTL at or below the entity TTL; otherwise cached id lists can outlive their
+ * entities, and those entities are then loaded one by one.
+ */
+@Configuration
+public class CacheConfig {
+
+	public static final String STUDENT_REGION = "student";
+	public static final String STUDENT_QUERY_REGION = "student-queries";
+
+	@Value("${students.cache.entity.max-entries:10000}")
+	private long entityMaxEntries;
+
+	@Value("${students.cache.entity.ttl:10m}")
+	private Duration entityTtl;
+
+	@Value("${students.cache.query.max-entries:1000}")
+	private long queryMaxEntries;
+
+	@Value("${students.cache.query.ttl:5m}")
+	private Duration queryTtl;
+
+	@Bean(destroyMethod = "close")
+	CacheManager hibernateCacheManager() {
+		CacheManager cacheManager = Caching.getCachingProvider().getCacheManager();
+		cacheManager.createCache(STUDENT_REGION, region(entityMaxEntries, entityTtl));
+		cacheManager.createCache(STUDENT_QUERY_REGION, region(queryMaxEntries, queryTtl));
+		// one entry per table; query results are checked against it, so it must
+		// never expire
+		cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+				Eh107Configuration.fromEhcacheCacheConfiguration(
+						newCacheConfigurationBuilder(Object.class, Object.class, heap(1_000))
+								.withExpiry(ExpiryPolicyBuilder.noExpiration())));
+		return cacheManager;
+	}
+
+	@Bean
+	HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+		return properties -> {
+			properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+			properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+			properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+			properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+			properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+			properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+		};
+	}
+
+	private static javax.cache.configuration.Configuration<Object, Object> region(long maxEntries, Duration ttl) {
+		return Eh107Configuration.fromEhcacheCacheConfiguration(
+				newCacheConfigurationBuilder(Object.class, Object.class, heap(maxEntries))
+						.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ttl)));
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.jpa.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@RestController
+public class CacheStatsController {
+
+	public record RegionStats(String region, long hits, long misses, long puts, long entriesInMemory,
+			double hitRatio) {
+	}
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	// hit/miss counters for every second-level and query cache region
+	@GetMapping("/cache/stats")
+	public List<RegionStats> getCacheStats() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		List<RegionStats> regions = new ArrayList<>();
+		for (String region : statistics.getSecondLevelCacheRegionNames()) {
+			CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+			if (stats == null) {
+				continue;
+			}
+			long lookups = stats.getHitCount() + stats.getMissCount();
+			regions.add(new RegionStats(region, stats.getHitCount(), stats.getMissCount(), stats.getPutCount(),
+					stats.getElementCountInMemory(), lookups == 0 ? 0.0 : (double) stats.getHitCount() / lookups));
+		}
+		return regions;
+	}
+}
@@ -1,16 +1,22 @@
 package com.example.jpa.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.example.jpa.dao.StudentCriteria;
 import com.example.jpa.dao.StudentDao;
 import com.example.jpa.entity.Student;
 
@@ -51,4 +57,34 @@ public class StudentController {
 		return "Student with id: " + studentId + " Deleted successfully";
 	}
 
+	// Bulk operations, each a single statement; the response carries the row count
+
+	// body: [1, 2, 3]
+	@PostMapping("/students/bulk-delete")
+	public Map<String, Integer> deleteStudents(@RequestBody List<Integer> ids) {
+		return Map.of("deleted", studentDao.deleteAllByIds(ids));
+	}
+
+	// e.g. PATCH /students/email-domain?from=old.com&to=new.com
+	@PatchMapping("/students/email-domain")
+	public Map<String, Integer> updateEmailDomain(@RequestParam String from, @RequestParam String to) {
+		if (from.isBlank() || to.isBlank() || from.contains("@") || to.contains("@")) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from and to must be bare domains");
+		}
+		return Map.of("updated", studentDao.updateEmailDomain(from, to));
+	}
+
+	// body: {"firstName": ..., "lastName": ..., "emailDomain": ...}, at least one set
+	@PostMapping("/students/delete-where")
+	public Map<String, Integer> deleteStudentsWhere(@RequestBody StudentCriteria criteria) {
+		if (criteria.isEmpty()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "at least one criterion is required");
+		}
+		if (!criteria.isValid()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+					"criteria must not be blank and emailDomain must be a bare domain");
+		}
+		return Map.of("deleted", studentDao.deleteWhere(criteria));
+	}
+
 }
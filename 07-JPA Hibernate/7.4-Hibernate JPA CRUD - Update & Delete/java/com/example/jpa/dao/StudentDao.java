@@ -1,5 +1,6 @@
 package com.example.jpa.dao;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.example.jpa.entity.Student;
@@ -15,4 +16,14 @@ public interface StudentDao {
 	public void updateStudent(Student student);
 
 	public void deleteById(Integer id);
+
+	// Bulk statements: each runs as one DELETE/UPDATE without loading any
+	// student, and returns the number of rows affected
+
+	public int deleteAllByIds(Collection<Integer> ids);
+
+	// "x@old.com" becomes "x@new.com" for every student in the old domain
+	public int updateEmailDomain(String oldDomain, String newDomain);
+
+	public int deleteWhere(StudentCriteria criteria);
 }
@@ -1,19 +1,35 @@
 package com.example.jpa.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import com.example.jpa.config.CacheConfig;
 import com.example.jpa.entity.Student;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import jakarta.transaction.Transactional;
 
+/*
+ * The bulk methods bypass the persistence context. For each of them Hibernate
+ * evicts the student cache region and invalidates the cached student
+ * queries, so a later find() never returns a deleted or outdated student.
+ */
 @Repository
 public class StudentDaoImpl implements StudentDao {
 
+	// keeps IN lists well below driver and optimizer limits
+	private static final int IN_CHUNK = 1000;
+
 	@Autowired
 	private EntityManager entityManager;
 
@@ -32,6 +48,8 @@ public class StudentDaoImpl implements StudentDao {
 	@Override
 	public List<Student> findAll() {
 		TypedQuery<Student> query = entityManager.createQuery("from Student", Student.class);
+		query.setHint(HibernateHints.HINT_CACHEABLE, true);
+		query.setHint(HibernateHints.HINT_CACHE_REGION, CacheConfig.STUDENT_QUERY_REGION);
 		List<Student> students = query.getResultList();
 		return students;
 	}
@@ -51,4 +69,56 @@ public class StudentDaoImpl implements StudentDao {
 
 	}
 
+	@Override
+	@Transactional
+	public int deleteAllByIds(Collection<Integer> ids) {
+		List<Integer> remaining = new ArrayList<>(ids);
+		int deleted = 0;
+		for (int from = 0; from < remaining.size(); from += IN_CHUNK) {
+			deleted += entityManager.createQuery("delete from Student s where s.id in :ids")
+					.setParameter("ids", remaining.subList(from, Math.min(from + IN_CHUNK, remaining.size())))
+					.executeUpdate();
+		}
+		return deleted;
+	}
+
+	@Override
+	@Transactional
+	public int updateEmailDomain(String oldDomain, String newDomain) {
+		return entityManager
+				.createQuery("update Student s set s.email = concat(substring(s.email, 1, locate('@', s.email)), "
+						+ ":newDomain) where s.email like :pattern escape '!'")
+				.setParameter("newDomain", newDomain).setParameter("pattern", "%@" + escapeLike(oldDomain))
+				.executeUpdate();
+	}
+
+	@Override
+	@Transactional
+	public int deleteWhere(StudentCriteria criteria) {
+		// an empty WHERE, or email LIKE '%@', would wipe the table
+		if (!criteria.isValid()) {
+			throw new IllegalArgumentException("deleteWhere needs at least one non-blank criterion - " + criteria);
+		}
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaDelete<Student> delete = cb.createCriteriaDelete(Student.class);
+		Root<Student> student = delete.from(Student.class);
+		List<Predicate> predicates = new ArrayList<>();
+		if (criteria.firstName() != null) {
+			predicates.add(cb.equal(student.get("firstName"), criteria.firstName()));
+		}
+		if (criteria.lastName() != null) {
+			predicates.add(cb.equal(student.get("lastName"), criteria.lastName()));
+		}
+		if (criteria.emailDomain() != null) {
+			predicates.add(cb.like(student.get("email"), "%@" + escapeLike(criteria.emailDomain()), '!'));
+		}
+		delete.where(predicates.toArray(new Predicate[0]));
+		return entityManager.createQuery(delete).executeUpdate();
+	}
+
+	// '!' rather than backslash, which MySQL also treats as a string escape
+	private static String escapeLike(String value) {
+		return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+	}
+
 }
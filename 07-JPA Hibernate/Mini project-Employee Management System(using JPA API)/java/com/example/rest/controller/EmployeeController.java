@@ -1,34 +1,109 @@
 package com.example.rest.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.example.rest.dao.EmployeeCriteria;
 import com.example.rest.entity.Employee;
 import com.example.rest.service.EmployeeService;
 
 @RestController
 @RequestMapping("/api")
 public class EmployeeController {
+	private static final int MAX_PAGE_SIZE = 1000;
+
 	@Autowired
 	private EmployeeService employeeService;
 
+	// Cache-Control sent with GET /employees and GET /employees/{id}
+	@Value("${employees.cache-control.list:no-cache}")
+	private String listCacheControl;
+
+	@Value("${employees.cache-control.item:no-cache}")
+	private String itemCacheControl;
+
+	/*
+	 * One page of employees in id order, navigation metadata in headers (see
+	 * PageHeaders):
+	 *
+	 *	?page=0&size=20          offset paging, add count=true for the total
+	 *	?after=0&size=20         keyset paging, equally fast on every page
+	 *	?all=true                the whole table in one response (explicit opt-in)
+	 *
+	 * One row more than the page size is read to learn whether a next page
+	 * exists. The ETag is a hash of the rows and paging headers actually
+	 * returned, so it costs only the (query-cached) page query; an unchanged
+	 * page answers 304 without being serialized or sent.
+	 */
 	@GetMapping("/employees")
-	public List<Employee> getEmployees() {
-		return employeeService.findAll();
+	public ResponseEntity<List<Employee>> getEmployees(@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size, @RequestParam(required = false) Integer after,
+			@RequestParam(defaultValue = "false") boolean count, @RequestParam(defaultValue = "false") boolean all,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		if (page < 0 || size < 1) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page must be >= 0 and size >= 1");
+		}
+		size = Math.min(size, MAX_PAGE_SIZE);
+		List<Employee> content;
+		HttpHeaders headers;
+		if (all) {
+			content = employeeService.findAll();
+			headers = new HttpHeaders();
+		} else if (after != null) {
+			List<Employee> rows = employeeService.findAfter(after, size + 1);
+			boolean hasNext = rows.size() > size;
+			content = hasNext ? rows.subList(0, size) : rows;
+			Integer nextAfter = hasNext ? content.get(size - 1).getId() : null;
+			headers = PageHeaders.keyset(size, nextAfter);
+		} else {
+			int first = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+			List<Employee> rows = employeeService.findRange(first, size + 1);
+			boolean hasNext = rows.size() > size;
+			content = hasNext ? rows.subList(0, size) : rows;
+			Long total = count ? employeeService.count() : null;
+			headers = PageHeaders.offset(page, size, hasNext, total);
+		}
+		String eTag = ETags.ofList(content, headers);
+		if (ETags.matches(ifNoneMatch, eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).headers(headers)
+					.header(HttpHeaders.CACHE_CONTROL, listCacheControl).build();
+		}
+		return ResponseEntity.ok().eTag(eTag).headers(headers).header(HttpHeaders.CACHE_CONTROL, listCacheControl)
+				.body(content);
 	}
 
 	@GetMapping("/employees/{id}")
-	public Employee getEmployee(@PathVariable int id) {
-		return employeeService.findById(id);
+	public ResponseEntity<Employee> getEmployee(@PathVariable int id,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		Employee employee = employeeService.findById(id);
+		if (employee == null) {
+			return ResponseEntity.ok(null);
+		}
+		String eTag = ETags.of(employee.getId(), employee.getFirstName(), employee.getLastName(),
+				employee.getEmail());
+		if (ETags.matches(ifNoneMatch, eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag)
+					.header(HttpHeaders.CACHE_CONTROL, itemCacheControl).build();
+		}
+		return ResponseEntity.ok().eTag(eTag).header(HttpHeaders.CACHE_CONTROL, itemCacheControl).body(employee);
 	}
 
 	@PostMapping("/employees")
@@ -53,4 +128,34 @@ public class EmployeeController {
 
 		return "Employee deleted with id: " + id;
 	}
+
+	// Bulk operations, each a single statement; the response carries the row count
+
+	// body: [1, 2, 3]
+	@PostMapping("/employees/bulk-delete")
+	public Map<String, Integer> deleteEmployees(@RequestBody List<Integer> ids) {
+		return Map.of("deleted", employeeService.deleteAllByIds(ids));
+	}
+
+	// e.g. PATCH /api/employees/email-domain?from=old.com&to=new.com
+	@PatchMapping("/employees/email-domain")
+	public Map<String, Integer> updateEmailDomain(@RequestParam String from, @RequestParam String to) {
+		if (from.isBlank() || to.isBlank() || from.contains("@") || to.contains("@")) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from and to must be bare domains");
+		}
+		return Map.of("updated", employeeService.updateEmailDomain(from, to));
+	}
+
+	// body: {"firstName": ..., "lastName": ..., "emailDomain": ...}, at least one set
+	@PostMapping("/employees/delete-where")
+	public Map<String, Integer> deleteEmployeesWhere(@RequestBody EmployeeCriteria criteria) {
+		if (criteria.isEmpty()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "at least one criterion is required");
+		}
+		if (!criteria.isValid()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+					"criteria must not be blank and emailDomain must be a bare domain");
+		}
+		return Map.of("deleted", employeeService.deleteWhere(criteria));
+	}
 }
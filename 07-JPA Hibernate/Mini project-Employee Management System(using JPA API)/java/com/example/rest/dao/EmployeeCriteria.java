@@ -0,0 +1,22 @@
+package com.example.rest.dao;
+
+// filter for EmployeeDao.deleteWhere; null fields are ignored, the rest are ANDed
+public record EmployeeCriteria(String firstName, String lastName, String emailDomain) {
+
+	// blank fields count as missing
+	public boolean isEmpty() {
+		return isBlank(firstName) && isBlank(lastName) && isBlank(emailDomain);
+	}
+
+	// set fields must not be blank, and emailDomain must be a bare domain: an
+	// empty one would turn into email LIKE '%@' and match every row
+	public boolean isValid() {
+		return !isEmpty() && (firstName == null || !firstName.isBlank())
+				&& (lastName == null || !lastName.isBlank())
+				&& (emailDomain == null || (!emailDomain.isBlank() && !emailDomain.contains("@")));
+	}
+
+	private static boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+}
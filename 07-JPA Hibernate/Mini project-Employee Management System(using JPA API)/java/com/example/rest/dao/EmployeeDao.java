@@ -1,5 +1,6 @@
 package com.example.rest.dao;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.example.rest.entity.Employee;
@@ -11,8 +12,27 @@ public interface EmployeeDao {
 
 	public Employee findById(int id);
 
+	// the whole table; prefer the paged variants below
 	public List<Employee> findAll();
 
+	// up to max employees in id order, skipping the first `first`
+	public List<Employee> findRange(int first, int max);
+
+	// keyset paging: up to max employees with an id greater than afterId
+	public List<Employee> findAfter(int afterId, int max);
+
+	public long count();
+
 	public void deleteById(int id);
 
+	// Bulk statements: each runs as one DELETE/UPDATE without loading any
+	// employee, and returns the number of rows affected
+
+	public int deleteAllByIds(Collection<Integer> ids);
+
+	// "x@old.com" becomes "x@new.com" for every employee in the old domain
+	public int updateEmailDomain(String oldDomain, String newDomain);
+
+	public int deleteWhere(EmployeeCriteria criteria);
+
 }
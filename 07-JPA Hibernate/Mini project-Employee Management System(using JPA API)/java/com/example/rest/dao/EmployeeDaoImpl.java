@@ -1,18 +1,34 @@
 package com.example.rest.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import com.example.rest.config.CacheConfig;
 import com.example.rest.entity.Employee;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 
+/*
+ * The bulk methods bypass the persistence context. For each of them Hibernate
+ * evicts the employee cache region and invalidates the cached employee
+ * queries, so a later find() never returns a deleted or outdated employee.
+ */
 @Repository
 public class EmployeeDaoImpl implements EmployeeDao {
 
+	// keeps IN lists well below driver and optimizer limits
+	private static final int IN_CHUNK = 1000;
+
 	@Autowired
 	private EntityManager entityManager;
 
@@ -22,6 +38,7 @@ public class EmployeeDaoImpl implements EmployeeDao {
 		return dbEmployee;
 	}
 
+	// served from the employee cache region when present
 	@Override
 	public Employee findById(int id) {
 		return entityManager.find(Employee.class, id);
@@ -36,6 +53,86 @@ public class EmployeeDaoImpl implements EmployeeDao {
 
 	}
 
+	@Override
+	public List<Employee> findRange(int first, int max) {
+		TypedQuery<Employee> query = cached(
+				entityManager.createQuery("from Employee e order by e.id", Employee.class));
+		query.setFirstResult(first);
+		query.setMaxResults(max);
+		return query.getResultList();
+	}
+
+	@Override
+	public List<Employee> findAfter(int afterId, int max) {
+		TypedQuery<Employee> query = cached(entityManager
+				.createQuery("from Employee e where e.id > :afterId order by e.id", Employee.class));
+		query.setParameter("afterId", afterId);
+		query.setMaxResults(max);
+		return query.getResultList();
+	}
+
+	@Override
+	public long count() {
+		return cached(entityManager.createQuery("select count(e) from Employee e", Long.class)).getSingleResult();
+	}
+
+	@Override
+	public int deleteAllByIds(Collection<Integer> ids) {
+		List<Integer> remaining = new ArrayList<>(ids);
+		int deleted = 0;
+		for (int from = 0; from < remaining.size(); from += IN_CHUNK) {
+			deleted += entityManager.createQuery("delete from Employee e where e.id in :ids")
+					.setParameter("ids", remaining.subList(from, Math.min(from + IN_CHUNK, remaining.size())))
+					.executeUpdate();
+		}
+		return deleted;
+	}
+
+	@Override
+	public int updateEmailDomain(String oldDomain, String newDomain) {
+		return entityManager
+				.createQuery("update Employee e set e.email = concat(substring(e.email, 1, locate('@', e.email)), "
+						+ ":newDomain) where e.email like :pattern escape '!'")
+				.setParameter("newDomain", newDomain).setParameter("pattern", "%@" + escapeLike(oldDomain))
+				.executeUpdate();
+	}
+
+	@Override
+	public int deleteWhere(EmployeeCriteria criteria) {
+		// an empty WHERE, or email LIKE '%@', would wipe the table
+		if (!criteria.isValid()) {
+			throw new IllegalArgumentException("deleteWhere needs at least one non-blank criterion - " + criteria);
+		}
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaDelete<Employee> delete = cb.createCriteriaDelete(Employee.class);
+		Root<Employee> employee = delete.from(Employee.class);
+		List<Predicate> predicates = new ArrayList<>();
+		if (criteria.firstName() != null) {
+			predicates.add(cb.equal(employee.get("firstName"), criteria.firstName()));
+		}
+		if (criteria.lastName() != null) {
+			predicates.add(cb.equal(employee.get("lastName"), criteria.lastName()));
+		}
+		if (criteria.emailDomain() != null) {
+			predicates.add(cb.like(employee.get("email"), "%@" + escapeLike(criteria.emailDomain()), '!'));
+		}
+		delete.where(predicates.toArray(new Predicate[0]));
+		return entityManager.createQuery(delete).executeUpdate();
+	}
+
+	// '!' rather than backslash, which MySQL also treats as a string escape
+	private static String escapeLike(String value) {
+		return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+	}
+
+	// page and count queries go through the query cache; findAll does not, one
+	// entry holding every id of the table would crowd out everything else
+	private static <T> TypedQuery<T> cached(TypedQuery<T> query) {
+		query.setHint(HibernateHints.HINT_CACHEABLE, true);
+		query.setHint(HibernateHints.HINT_CACHE_REGION, CacheConfig.EMPLOYEE_QUERY_REGION);
+		return query;
+	}
+
 	@Override
 	public void deleteById(int id) {
 		Employee employee = entityManager.find(Employee.class, id);
@@ -1,7 +1,9 @@
 package com.example.rest.service;
 
+import java.util.Collection;
 import java.util.List;
 
+import com.example.rest.dao.EmployeeCriteria;
 import com.example.rest.entity.Employee;
 
 public interface EmployeeService {
@@ -13,6 +15,18 @@ public interface EmployeeService {
 
 	public List<Employee> findAll();
 
+	public List<Employee> findRange(int first, int max);
+
+	public List<Employee> findAfter(int afterId, int max);
+
+	public long count();
+
 	public void deleteById(int id);
 
+	public int deleteAllByIds(Collection<Integer> ids);
+
+	public int updateEmailDomain(String oldDomain, String newDomain);
+
+	public int deleteWhere(EmployeeCriteria criteria);
+
 }
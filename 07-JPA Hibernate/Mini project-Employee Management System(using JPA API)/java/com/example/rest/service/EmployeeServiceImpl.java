@@ -1,10 +1,12 @@
 package com.example.rest.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.example.rest.dao.EmployeeCriteria;
 import com.example.rest.dao.EmployeeDao;
 import com.example.rest.entity.Employee;
 
@@ -28,6 +30,21 @@ public class EmployeeServiceImpl implements EmployeeService {
 
 	}
 
+	@Override
+	public List<Employee> findRange(int first, int max) {
+		return employeeDao.findRange(first, max);
+	}
+
+	@Override
+	public List<Employee> findAfter(int afterId, int max) {
+		return employeeDao.findAfter(afterId, max);
+	}
+
+	@Override
+	public long count() {
+		return employeeDao.count();
+	}
+
 	@Transactional
 	@Override
 	public Employee save(Employee employee) {
@@ -41,4 +58,22 @@ public class EmployeeServiceImpl implements EmployeeService {
 
 	}
 
+	@Transactional
+	@Override
+	public int deleteAllByIds(Collection<Integer> ids) {
+		return employeeDao.deleteAllByIds(ids);
+	}
+
+	@Transactional
+	@Override
+	public int updateEmailDomain(String oldDomain, String newDomain) {
+		return employeeDao.updateEmailDomain(oldDomain, newDomain);
+	}
+
+	@Transactional
+	@Override
+	public int deleteWhere(EmployeeCriteria criteria) {
+		return employeeDao.deleteWhere(criteria);
+	}
+
 }
@@ -0,0 +1,10 @@
+-- Id table for Employee's pooled-lo generator (MySQL has no sequences, so
+-- Hibernate keeps the next free id in a one-row table).
+-- Run once before starting the application.
+-- Start it past the existing ids. After this, insert employees only through
+-- the application; plain INSERTs using AUTO_INCREMENT would not advance next_val.
+
+CREATE TABLE IF NOT EXISTS employee_seq (next_val BIGINT NOT NULL);
+
+INSERT INTO employee_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 1 FROM employee;
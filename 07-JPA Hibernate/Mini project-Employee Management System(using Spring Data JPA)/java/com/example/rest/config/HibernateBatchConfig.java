@@ -0,0 +1,34 @@
+package com.example.rest.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * Turns on JDBC insert batching for Hibernate.
+ *
+ * - batch_size: inserts sent per executeBatch(); add rewriteBatchedStatements=true
+ *   to the MySQL URL so Connector/J turns each batch into multi-row INSERTs
+ * - order_inserts / order_updates: group statements per entity so one batch
+ *   is not broken up by another table
+ * - pooled-lo: Employee ids are handed out in blocks from employee_seq
+ *   (see employee_bulk.sql), the first id of a block being the stored value
+ */
+@Configuration
+public class HibernateBatchConfig {
+
+	@Value("${employees.jdbc.batch-size:500}")
+	private int batchSize;
+
+	@Bean
+	HibernatePropertiesCustomizer batchingCustomizer() {
+		return properties -> {
+			properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+			properties.put(AvailableSettings.ORDER_INSERTS, true);
+			properties.put(AvailableSettings.ORDER_UPDATES, true);
+			properties.put(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+		};
+	}
+}
@@ -0,0 +1,83 @@
+package com.example.rest.config;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.cfg.BackendSettings;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import com.example.rest.entity.Employee;
+import com.example.rest.search.EmployeeAnalysisConfigurer;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/*
+ * Embedded Lucene index for employee full-text search (Hibernate Search).
+ *
+ * - the index lives in a local directory, no search server is involved
+ * - saves and deletes through Hibernate update the index when the transaction
+ *   commits; read-sync makes the change visible to the next search without
+ *   waiting for an fsync of the index
+ * - on startup the index is rebuilt from the employee table in the
+ *   background, so it also picks up rows written outside the application
+ */
+@Configuration
+public class SearchConfig {
+
+	private static final Logger logger = LoggerFactory.getLogger(SearchConfig.class);
+
+	@Value("${employees.search.index-dir:data/lucene}")
+	private String indexDir;
+
+	@Value("${employees.search.reindex-on-startup:true}")
+	private boolean reindexOnStartup;
+
+	@Value("${employees.search.reindex-threads:4}")
+	private int reindexThreads;
+
+	@Value("${employees.jdbc.batch-size:500}")
+	private int batchSize;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Bean
+	HibernatePropertiesCustomizer searchCustomizer() {
+		return properties -> {
+			properties.put(BackendSettings.backendKey(LuceneBackendSettings.DIRECTORY_TYPE), "local-filesystem");
+			properties.put(BackendSettings.backendKey(LuceneBackendSettings.DIRECTORY_ROOT), indexDir);
+			properties.put(BackendSettings.backendKey(LuceneBackendSettings.ANALYSIS_CONFIGURER),
+					"class:" + EmployeeAnalysisConfigurer.class.getName());
+			properties.put(HibernateOrmMapperSettings.INDEXING_PLAN_SYNCHRONIZATION_STRATEGY, "read-sync");
+		};
+	}
+
+	// searches answer from the old index content until the rebuild completes
+	@EventListener(ApplicationReadyEvent.class)
+	public void reindex() {
+		if (!reindexOnStartup) {
+			return;
+		}
+		long start = System.nanoTime();
+		Search.mapping(entityManagerFactory).scope(Employee.class).massIndexer()
+				.threadsToLoadObjects(reindexThreads)
+				.batchSizeToLoadObjects(batchSize)
+				.start()
+				.whenComplete((ignored, failure) -> {
+					long millis = (System.nanoTime() - start) / 1_000_000;
+					if (failure != null) {
+						logger.error("Employee re-indexing failed after {} ms", millis, failure);
+					} else {
+						logger.info("Employee index rebuilt in {} ms", millis);
+					}
+				});
+	}
+}
@@ -1,35 +1,214 @@
 package com.example.rest.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.rest.dto.EmployeeFilter;
+import com.example.rest.dto.EmployeeView;
+import com.example.rest.dto.ImportResult;
 import com.example.rest.entity.Employee;
 import com.example.rest.service.EmployeeService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/api")
 public class EmployeeController {
+	// rows serialized between explicit flushes of the streaming endpoints
+	private static final int FLUSH_EVERY = 500;
+
+	private static final int MAX_PAGE_SIZE = 1000;
+
 	@Autowired
 	private EmployeeService employeeService;
 
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	// Cache-Control sent with GET /employees and GET /employees/{id}
+	@Value("${employees.cache-control.list:no-cache}")
+	private String listCacheControl;
+
+	@Value("${employees.cache-control.item:no-cache}")
+	private String itemCacheControl;
+
+	/*
+	 * One page of employees in id order, navigation metadata in headers (see
+	 * PageHeaders):
+	 *
+	 *	?page=0&size=20          offset paging, add count=true for the total
+	 *	?after=0&size=20         keyset paging, equally fast on every page
+	 *	?all=true                the whole table in one response (explicit opt-in)
+	 *
+	 * The ETag is a hash of the rows and paging headers actually returned, so
+	 * it costs only the page query itself; an unchanged page answers 304
+	 * without being serialized or sent.
+	 */
 	@GetMapping("/employees")
-	public List<Employee> getEmployees() {
-		return employeeService.findAll();
+	public ResponseEntity<List<EmployeeView>> getEmployees(@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size, @RequestParam(required = false) Integer after,
+			@RequestParam(defaultValue = "false") boolean count, @RequestParam(defaultValue = "false") boolean all,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		if (page < 0 || size < 1) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page must be >= 0 and size >= 1");
+		}
+		size = Math.min(size, MAX_PAGE_SIZE);
+		List<EmployeeView> content;
+		HttpHeaders headers;
+		if (all) {
+			content = employeeService.findAllViews();
+			headers = new HttpHeaders();
+		} else if (after != null) {
+			Slice<EmployeeView> slice = employeeService.findAfter(after, size);
+			content = slice.getContent();
+			Integer nextAfter = slice.hasNext() ? content.get(content.size() - 1).id() : null;
+			headers = PageHeaders.keyset(size, nextAfter);
+		} else {
+			Slice<EmployeeView> slice = count ? employeeService.findPage(page, size)
+					: employeeService.findSlice(page, size);
+			content = slice.getContent();
+			Long total = slice instanceof Page<?> counted ? counted.getTotalElements() : null;
+			headers = PageHeaders.offset(page, size, slice.hasNext(), total);
+		}
+		return listResponse(content, headers, ifNoneMatch);
+	}
+
+	/*
+	 * Filtered employees (no q parameter) in id order, keyset paged like
+	 * /employees?after=:
+	 *
+	 *	?lastName=Sm&firstName=Jo   name prefixes
+	 *	?emailDomain=example.com    exact domain (the part after '@')
+	 *	?minId=100&maxId=200        inclusive id range
+	 *
+	 * Filters combine with AND and are evaluated in MySQL on the indexes from
+	 * employee_search_indexes.sql; follow X-Next-After / Link for more.
+	 */
+	@GetMapping(value = "/employees/search", params = "!q")
+	public ResponseEntity<List<EmployeeView>> searchEmployees(@RequestParam(required = false) String firstName,
+			@RequestParam(required = false) String lastName, @RequestParam(required = false) String emailDomain,
+			@RequestParam(required = false) Integer minId, @RequestParam(required = false) Integer maxId,
+			@RequestParam(defaultValue = "0") int after, @RequestParam(defaultValue = "20") int size) {
+		if (size < 1) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be >= 1");
+		}
+		size = Math.min(size, MAX_PAGE_SIZE);
+		Slice<EmployeeView> slice = employeeService
+				.search(new EmployeeFilter(firstName, lastName, emailDomain, minId, maxId), after, size);
+		List<EmployeeView> content = slice.getContent();
+		Integer nextAfter = slice.hasNext() ? content.get(content.size() - 1).id() : null;
+		return ResponseEntity.ok().headers(PageHeaders.keyset(size, nextAfter)).body(content);
+	}
+
+	/*
+	 * Full-text search, e.g. ?q=jon smyth: matches names and email despite
+	 * typos, best matches first, offset paged (?page=&size=) with the total
+	 * hit count in X-Total-Count. Served by the embedded Lucene index.
+	 */
+	@GetMapping(value = "/employees/search", params = "q")
+	public ResponseEntity<List<EmployeeView>> fullTextSearch(@RequestParam String q,
+			@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
+		if (q.isBlank() || page < 0 || size < 1) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "q must not be blank, page >= 0, size >= 1");
+		}
+		size = Math.min(size, MAX_PAGE_SIZE);
+		if ((long) page * size > Integer.MAX_VALUE) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page is too large");
+		}
+		Page<EmployeeView> hits = employeeService.fullTextSearch(q, page, size);
+		return ResponseEntity.ok().headers(PageHeaders.offset(page, size, hits.hasNext(), hits.getTotalElements()))
+				.body(hits.getContent());
+	}
+
+	// same JSON array as /employees, but written row by row from a database
+	// cursor, so the first bytes leave immediately and heap use stays flat
+	@GetMapping(value = "/employees/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+	public StreamingResponseBody streamEmployees() {
+		ObjectWriter writer = employeeWriter();
+		return out -> {
+			try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+				generator.writeStartArray();
+				int[] rows = { 0 };
+				employeeService.streamAll(employee -> {
+					try {
+						writer.writeValue(generator, employee);
+						if (++rows[0] % FLUSH_EVERY == 0) {
+							generator.flush();
+						}
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+				generator.writeEndArray();
+			}
+		};
+	}
+
+	// one JSON object per line (application/x-ndjson)
+	@GetMapping(value = "/employees/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public StreamingResponseBody streamEmployeesNdjson() {
+		ObjectWriter writer = employeeWriter();
+		return out -> {
+			try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+				generator.setRootValueSeparator(null);
+				int[] rows = { 0 };
+				employeeService.streamAll(employee -> {
+					try {
+						writer.writeValue(generator, employee);
+						generator.writeRaw('\n');
+						if (++rows[0] % FLUSH_EVERY == 0) {
+							generator.flush();
+						}
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+		};
 	}
 
 	@GetMapping("/employees/{id}")
-	public Optional<Employee> getEmployee(@PathVariable int id) {
-		return employeeService.findById(id);
+	public ResponseEntity<Optional<EmployeeView>> getEmployee(@PathVariable int id,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		Optional<EmployeeView> employee = employeeService.findViewById(id);
+		if (employee.isEmpty()) {
+			return ResponseEntity.ok(employee);
+		}
+		EmployeeView e = employee.get();
+		String eTag = ETags.of(e.id(), e.firstName(), e.lastName(), e.email());
+		if (ETags.matches(ifNoneMatch, eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag)
+					.header(HttpHeaders.CACHE_CONTROL, itemCacheControl).build();
+		}
+		return ResponseEntity.ok().eTag(eTag).header(HttpHeaders.CACHE_CONTROL, itemCacheControl).body(employee);
 	}
 
 	@PostMapping("/employees")
@@ -37,9 +216,31 @@ public class EmployeeController {
 		return employeeService.save(employee);
 	}
 
+	// body is either a JSON array or NDJSON; both are parsed one employee at a
+	// time straight from the request stream, never as a whole list
+	@PostMapping(value = "/employees/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE,
+			MediaType.APPLICATION_NDJSON_VALUE })
+	public ImportResult importEmployees(HttpServletRequest request) throws IOException {
+		try (MappingIterator<Employee> employees = objectMapper.readerFor(Employee.class)
+				.readValues(request.getInputStream())) {
+			return employeeService.importAll(employees);
+		}
+	}
+
+	/*
+	 * With employees.write-behind.enabled=true, an update of an existing
+	 * employee is usually only buffered: the response is 202 Accepted with
+	 * X-Write-Behind: buffered. It is visible to reads from this instance
+	 * at once, but reaches the database in the next batch (within
+	 * employees.write-behind.flush-interval) and is lost if the process
+	 * crashes first. A 200 response means the update was committed.
+	 */
 	@PutMapping("/employees")
-	public Employee updateEmployee(@RequestBody Employee employee) {
-		return employeeService.save(employee);
+	public ResponseEntity<Employee> updateEmployee(@RequestBody Employee employee) {
+		if (employeeService.updateLater(employee)) {
+			return ResponseEntity.accepted().header("X-Write-Behind", "buffered").body(employee);
+		}
+		return ResponseEntity.ok(employeeService.save(employee));
 	}
 
 	@DeleteMapping("/employees/{id}")
@@ -54,4 +255,18 @@ public class EmployeeController {
 
 		return "Employee deleted with id: " + id;
 	}
+
+	private <T> ResponseEntity<List<T>> listResponse(List<T> content, HttpHeaders headers, String ifNoneMatch) {
+		String eTag = ETags.ofList(content, headers);
+		if (ETags.matches(ifNoneMatch, eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).headers(headers)
+					.header(HttpHeaders.CACHE_CONTROL, listCacheControl).build();
+		}
+		return ResponseEntity.ok().eTag(eTag).headers(headers).header(HttpHeaders.CACHE_CONTROL, listCacheControl)
+				.body(content);
+	}
+
+	private ObjectWriter employeeWriter() {
+		return objectMapper.writerFor(Employee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	}
 }
@@ -0,0 +1,6 @@
+package com.example.rest.dto;
+
+// search criteria for GET /employees/search; null fields are not filtered on.
+// Name filters are prefixes, emailDomain is the part after '@', ids are inclusive
+public record EmployeeFilter(String firstName, String lastName, String emailDomain, Integer minId, Integer maxId) {
+}
@@ -0,0 +1,6 @@
+package com.example.rest.dto;
+
+// read-only shape of an employee for list and get endpoints; serializes to
+// the same JSON as the entity but is never managed by the persistence context
+public record EmployeeView(int id, String firstName, String lastName, String email) {
+}
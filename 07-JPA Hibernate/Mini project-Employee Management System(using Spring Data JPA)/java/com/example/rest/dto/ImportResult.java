@@ -0,0 +1,5 @@
+package com.example.rest.dto;
+
+// what POST /api/employees/bulk reports back
+public record ImportResult(long rows, long millis, double rowsPerSecond) {
+}
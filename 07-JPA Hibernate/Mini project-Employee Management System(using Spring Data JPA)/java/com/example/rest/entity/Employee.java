@@ -1,10 +1,17 @@
 package com.example.rest.entity;
 
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -15,19 +22,34 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Entity
 @Table(name = "employee")
+// full-text indexed (see SearchConfig); fields are projectable so search
+// results are built from the index alone
+@Indexed(index = "employee")
 public class Employee {
 
 	@Id
 	@Column(name = "id")
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	// IDENTITY would make Hibernate insert every row on its own to learn the id;
+	// a pooled generator hands out 500 ids per round trip and keeps batching on
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_seq")
+	@SequenceGenerator(name = "employee_seq", sequenceName = "employee_seq", allocationSize = 500)
 	private int id;
 
 	@Column(name = "first_name")
+	@FullTextField(analyzer = "name", projectable = Projectable.YES)
 	private String firstName;
 
 	@Column(name = "last_name")
+	@FullTextField(analyzer = "name", projectable = Projectable.YES)
 	private String lastName;
 	@Column(name = "email")
+	@FullTextField(analyzer = "email", projectable = Projectable.YES)
 	private String email;
 
+	// generated by MySQL from email (see employee_search_indexes.sql); only
+	// here so searches by domain can use its index, never written or serialized
+	@JsonIgnore
+	@Column(name = "email_domain", insertable = false, updatable = false)
+	private String emailDomain;
+
 }
@@ -0,0 +1,82 @@
+package com.example.rest.loadtest;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * Streams generated employees as NDJSON into POST /api/employees/bulk and
+ * reports inserts/sec, as measured by the client and by the server.
+ *
+ * Start the application first (with rewriteBatchedStatements=true on the
+ * MySQL URL), then run:
+ *	java com.example.rest.loadtest.BulkImportBenchmark http://localhost:8080 1000000
+ */
+public class BulkImportBenchmark {
+
+	// produces "{"firstName":...}\n" lines on demand, so a million rows
+	// never sit in memory on the client either
+	private static class NdjsonEmployees extends InputStream {
+		private final int rows;
+		private int next = 1;
+		private byte[] line = new byte[0];
+		private int pos;
+
+		NdjsonEmployees(int rows) {
+			this.rows = rows;
+		}
+
+		@Override
+		public int read() {
+			if (pos == line.length && !nextLine()) {
+				return -1;
+			}
+			return line[pos++] & 0xff;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) {
+			if (length == 0) {
+				return 0;
+			}
+			if (pos == line.length && !nextLine()) {
+				return -1;
+			}
+			int count = Math.min(length, line.length - pos);
+			System.arraycopy(line, pos, buffer, offset, count);
+			pos += count;
+			return count;
+		}
+
+		private boolean nextLine() {
+			if (next > rows) {
+				return false;
+			}
+			int i = next++;
+			line = ("{\"firstName\":\"First" + i + "\",\"lastName\":\"Last" + i + "\",\"email\":\"employee" + i
+					+ "@example.com\"}\n").getBytes(StandardCharsets.UTF_8);
+			pos = 0;
+			return true;
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+		int rows = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+
+		HttpClient client = HttpClient.newHttpClient();
+		HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/employees/bulk"))
+				.header("Content-Type", "application/x-ndjson")
+				.POST(HttpRequest.BodyPublishers.ofInputStream(() -> new NdjsonEmployees(rows))).build();
+
+		long start = System.nanoTime();
+		HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+		System.out.println("HTTP " + response.statusCode() + " " + response.body());
+		System.out.printf("%d rows in %.1f s, %.0f inserts/sec end to end%n", rows, seconds, rows / seconds);
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.rest.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.rest.dto.EmployeeView;
+import com.example.rest.entity.Employee;
+import com.example.rest.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/*
+ * Compares reading and serializing the whole employee table as managed
+ * entities (read-write transaction, the old GET /employees path) against
+ * EmployeeView projections in a read-only transaction.
+ *
+ * Reports latency and bytes allocated by the request thread per call. Runs
+ * at startup with the benchmark profile:
+ *	java -jar ems.jar --spring.profiles.active=benchmark
+ */
+@Component
+@Profile("benchmark")
+public class ProjectionBenchmark implements CommandLineRunner {
+
+	private static final int WARMUP = 10;
+	private static final int ITERATIONS = 50;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Override
+	public void run(String... args) {
+		TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		long rows = employeeRepository.count();
+		System.out.println("Employees: " + rows);
+		measure("entities, read-write tx", () -> readWrite.execute(status -> {
+			List<Employee> employees = employeeRepository.findAll();
+			return serialize(employees);
+		}));
+		measure("EmployeeView, read-only tx", () -> readOnly.execute(status -> {
+			List<EmployeeView> employees = employeeRepository.findAllBy(EmployeeView.class);
+			return serialize(employees);
+		}));
+	}
+
+	private byte[] serialize(Object body) {
+		try {
+			return objectMapper.writeValueAsBytes(body);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void measure(String name, Supplier<byte[]> path) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		for (int i = 0; i < WARMUP; i++) {
+			path.get();
+		}
+		long[] micros = new long[ITERATIONS];
+		long allocated = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			long bytesBefore = threads.getThreadAllocatedBytes(thread);
+			long start = System.nanoTime();
+			path.get();
+			micros[i] = (System.nanoTime() - start) / 1_000;
+			allocated += threads.getThreadAllocatedBytes(thread) - bytesBefore;
+		}
+		Arrays.sort(micros);
+		System.out.printf("%-28s p50=%.1fms p99=%.1fms allocated=%.1fMB/call%n", name, micros[ITERATIONS / 2] / 1000.0,
+				micros[ITERATIONS * 99 / 100] / 1000.0, allocated / (double) ITERATIONS / (1024 * 1024));
+	}
+}
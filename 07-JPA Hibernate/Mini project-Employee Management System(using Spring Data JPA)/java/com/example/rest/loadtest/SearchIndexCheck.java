@@ -0,0 +1,69 @@
+package com.example.rest.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+ * Runs EXPLAIN on the statements GET /employees/search sends for each filter
+ * and fails startup when MySQL would not use the intended index from
+ * employee_search_indexes.sql. The SQL mirrors what Hibernate generates for
+ * EmployeeSearchRepositoryImpl (same columns, predicates, ORDER BY and LIMIT).
+ *
+ * The optimizer prefers a full scan on tiny tables, so load a realistic
+ * directory first (e.g. with BulkImportBenchmark), then run:
+ *	java -jar ems.jar --spring.profiles.active=explain
+ */
+@Component
+@Profile("explain")
+public class SearchIndexCheck implements CommandLineRunner {
+
+	private record Expectation(String name, String sql, Object[] args, String key, boolean covering) {
+	}
+
+	private static final String SELECT = "select e.id, e.first_name, e.last_name, e.email from employee e where ";
+	private static final String PAGE = " and e.id > ? order by e.id limit ?";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void run(String... args) {
+		List<Expectation> expectations = List.of(
+				new Expectation("lastName prefix", SELECT + "e.last_name like ? escape '!'" + PAGE,
+						new Object[] { "Sm%", 0, 21 }, "idx_employee_last_first", true),
+				new Expectation("lastName + firstName prefix",
+						SELECT + "e.first_name like ? escape '!' and e.last_name like ? escape '!'" + PAGE,
+						new Object[] { "Jo%", "Sm%", 0, 21 }, "idx_employee_last_first", true),
+				new Expectation("firstName prefix", SELECT + "e.first_name like ? escape '!'" + PAGE,
+						new Object[] { "Jo%", 0, 21 }, "idx_employee_first_last", true),
+				new Expectation("emailDomain", SELECT + "e.email_domain = ?" + PAGE,
+						new Object[] { "example.com", 0, 21 }, "idx_employee_email_domain", false),
+				new Expectation("id range", SELECT + "e.id >= ? and e.id <= ?" + PAGE,
+						new Object[] { 1000, 2000, 0, 21 }, "PRIMARY", false));
+
+		System.out.println("Employees: " + jdbcTemplate.queryForObject("select count(*) from employee", Long.class));
+		List<String> failures = new ArrayList<>();
+		for (Expectation expected : expectations) {
+			Map<String, Object> plan = jdbcTemplate.queryForList("EXPLAIN " + expected.sql(), expected.args()).get(0);
+			String key = (String) plan.get("key");
+			String extra = String.valueOf(plan.get("Extra"));
+			System.out.printf("%-28s key=%s rows=%s extra=%s%n", expected.name(), key, plan.get("rows"), extra);
+			if (!expected.key().equals(key)) {
+				failures.add(expected.name() + ": expected index " + expected.key() + " but got " + key);
+			} else if (expected.covering() && !extra.contains("Using index")) {
+				failures.add(expected.name() + ": " + key + " is not covering (" + extra + ")");
+			}
+		}
+		if (!failures.isEmpty()) {
+			throw new IllegalStateException("Search queries do not use their indexes:\n" + String.join("\n", failures));
+		}
+		System.out.println("All search queries use their indexes");
+	}
+}
@@ -0,0 +1,34 @@
+package com.example.rest.loadtest;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.rest.dto.EmployeeView;
+import com.example.rest.service.EmployeeService;
+
+/*
+ * A request that is slow for reasons other than the database: it waits
+ * sleepMs (standing in for a call to another service), then reads one
+ * employee. Only enabled with the loadtest profile, for VirtualThreadBenchmark.
+ */
+@RestController
+@RequestMapping("/api/loadtest")
+@Profile("loadtest")
+public class SlowRequestController {
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@GetMapping("/slow")
+	public Optional<EmployeeView> slow(@RequestParam(defaultValue = "200") long sleepMs,
+			@RequestParam(defaultValue = "1") int id) throws InterruptedException {
+		Thread.sleep(sleepMs);
+		return employeeService.findViewById(id);
+	}
+}
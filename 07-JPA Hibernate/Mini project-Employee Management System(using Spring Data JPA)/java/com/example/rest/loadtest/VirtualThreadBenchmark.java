@@ -0,0 +1,71 @@
+package com.example.rest.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Fires 1k to 20k concurrent requests at GET /api/loadtest/slow (all in
+ * flight at once) and reports completion time, throughput, latency
+ * percentiles and errors per level.
+ *
+ * Run it once against each mode of the application, both with the loadtest
+ * profile, and compare:
+ *	platform threads: --spring.profiles.active=loadtest --spring.jpa.open-in-view=false
+ *	virtual threads:  --spring.profiles.active=loadtest,virtual
+ * then:
+ *	java com.example.rest.loadtest.VirtualThreadBenchmark http://localhost:8080 200 1000,2000,5000,10000,20000
+ *
+ * With 200 Tomcat workers and 200 ms per request, platform threads cannot
+ * finish much faster than levels / 1000 seconds. Virtual threads should
+ * finish every level in a little over 200 ms until the 20-connection pool
+ * becomes the limit. Raise the open-files limit (ulimit -n) on both sides
+ * for the higher levels.
+ */
+public class VirtualThreadBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		String base = args.length > 0 ? args[0] : "http://localhost:8080";
+		long sleepMs = args.length > 1 ? Long.parseLong(args[1]) : 200;
+		String levels = args.length > 2 ? args[2] : "1000,2000,5000,10000,20000";
+
+		HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+				.executor(Executors.newFixedThreadPool(16)).connectTimeout(Duration.ofSeconds(30)).build();
+		HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/api/loadtest/slow?sleepMs=" + sleepMs))
+				.timeout(Duration.ofSeconds(120)).GET().build();
+
+		run(client, request, 200);
+		System.out.printf("GET /api/loadtest/slow, %d ms per request%n", sleepMs);
+		for (String level : levels.split(",")) {
+			run(client, request, Integer.parseInt(level.trim()));
+		}
+	}
+
+	private static void run(HttpClient client, HttpRequest request, int concurrent) {
+		long[] micros = new long[concurrent];
+		AtomicInteger errors = new AtomicInteger();
+		CompletableFuture<?>[] calls = new CompletableFuture<?>[concurrent];
+		long start = System.nanoTime();
+		for (int i = 0; i < concurrent; i++) {
+			int slot = i;
+			calls[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, e) -> {
+				micros[slot] = (System.nanoTime() - start) / 1_000;
+				if (e != null || response.statusCode() != 200) {
+					errors.incrementAndGet();
+				}
+			});
+		}
+		CompletableFuture.allOf(calls).exceptionally(e -> null).join();
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+		Arrays.sort(micros);
+		System.out.printf("%6d concurrent  done in %.2fs  %7.0f req/s  p50=%.0fms  p99=%.0fms  errors=%d%n", concurrent,
+				seconds, concurrent / seconds, micros[concurrent / 2] / 1000.0,
+				micros[(int) (concurrent * 0.99)] / 1000.0, errors.get());
+	}
+}
@@ -1,12 +1,51 @@
 package com.example.rest.repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.example.rest.entity.Employee;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
+public interface EmployeeRepository
+		extends JpaRepository<Employee, Integer>, JpaSpecificationExecutor<Employee>, EmployeeSearchRepository {
+
+	// provide CRUD methods for free, plus Specification queries (see
+	// EmployeeSpecifications) and the projected search in EmployeeSearchRepository
+
+	// The finders below take the projection type, usually EmployeeView: only
+	// its constructor's columns are selected and nothing is managed
+
+	<T> Optional<T> findProjectedById(int id, Class<T> type);
+
+	<T> List<T> findAllBy(Class<T> type);
+
+	// one page with a COUNT query
+	<T> Page<T> findAllProjectedBy(Pageable pageable, Class<T> type);
+
+	// one page without the COUNT query
+	<T> Slice<T> findAllBy(Pageable pageable, Class<T> type);
+
+	// keyset paging: walks the primary key index from afterId, however deep
+	<T> Slice<T> findByIdGreaterThan(int afterId, Pageable pageable, Class<T> type);
 
-	// provide CRUD methods for free
+	// forward-only cursor over the whole table; Integer.MIN_VALUE makes MySQL
+	// Connector/J send rows one by one instead of buffering the result set.
+	// Must be consumed inside a transaction and closed afterwards.
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+	@Query("select e from Employee e")
+	Stream<Employee> streamAll();
 }
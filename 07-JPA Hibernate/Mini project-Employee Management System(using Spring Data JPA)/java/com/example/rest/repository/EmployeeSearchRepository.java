@@ -0,0 +1,16 @@
+package com.example.rest.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.rest.dto.EmployeeView;
+import com.example.rest.entity.Employee;
+
+// custom fragment of EmployeeRepository, implemented in EmployeeSearchRepositoryImpl
+public interface EmployeeSearchRepository {
+
+	// at most limit employees matching spec, in id order, selected straight
+	// into EmployeeView (only the four view columns, nothing managed)
+	List<EmployeeView> findViews(Specification<Employee> spec, int limit);
+}
@@ -0,0 +1,41 @@
+package com.example.rest.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.rest.dto.EmployeeView;
+import com.example.rest.entity.Employee;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/*
+ * JpaSpecificationExecutor can only return whole entities and always counts
+ * for a Page, so the search runs its own criteria query: a constructor
+ * projection, ORDER BY id and LIMIT, no COUNT.
+ */
+public class EmployeeSearchRepositoryImpl implements EmployeeSearchRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<EmployeeView> findViews(Specification<Employee> spec, int limit) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<EmployeeView> query = cb.createQuery(EmployeeView.class);
+		Root<Employee> employee = query.from(Employee.class);
+		query.select(cb.construct(EmployeeView.class, employee.get("id"), employee.get("firstName"),
+				employee.get("lastName"), employee.get("email")));
+		Predicate predicate = spec.toPredicate(employee, query, cb);
+		if (predicate != null) {
+			query.where(predicate);
+		}
+		query.orderBy(cb.asc(employee.get("id")));
+		return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+	}
+}
@@ -0,0 +1,78 @@
+package com.example.rest.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.rest.dto.EmployeeFilter;
+import com.example.rest.entity.Employee;
+
+/*
+ * Building blocks for employee search. Every predicate is written so MySQL
+ * can range-scan an index from employee_search_indexes.sql:
+ *
+ * - name prefixes become LIKE 'abc%', never LIKE '%abc%' or lower(...)
+ *   (the column collation is already case-insensitive)
+ * - the email domain is compared with the indexed email_domain column
+ * - id bounds and the keyset position use the primary key
+ */
+public final class EmployeeSpecifications {
+
+	private EmployeeSpecifications() {
+	}
+
+	public static Specification<Employee> firstNameStartsWith(String prefix) {
+		return (employee, query, cb) -> cb.like(employee.get("firstName"), escapeLike(prefix) + "%", '!');
+	}
+
+	public static Specification<Employee> lastNameStartsWith(String prefix) {
+		return (employee, query, cb) -> cb.like(employee.get("lastName"), escapeLike(prefix) + "%", '!');
+	}
+
+	public static Specification<Employee> emailDomainIs(String domain) {
+		return (employee, query, cb) -> cb.equal(employee.get("emailDomain"), domain);
+	}
+
+	public static Specification<Employee> idAtLeast(int minId) {
+		return (employee, query, cb) -> cb.greaterThanOrEqualTo(employee.get("id"), minId);
+	}
+
+	public static Specification<Employee> idAtMost(int maxId) {
+		return (employee, query, cb) -> cb.lessThanOrEqualTo(employee.get("id"), maxId);
+	}
+
+	public static Specification<Employee> idGreaterThan(int afterId) {
+		return (employee, query, cb) -> cb.greaterThan(employee.get("id"), afterId);
+	}
+
+	// all set filter fields combined with AND; matches everything when none is set
+	public static Specification<Employee> matching(EmployeeFilter filter) {
+		List<Specification<Employee>> specs = new ArrayList<>();
+		if (hasText(filter.firstName())) {
+			specs.add(firstNameStartsWith(filter.firstName()));
+		}
+		if (hasText(filter.lastName())) {
+			specs.add(lastNameStartsWith(filter.lastName()));
+		}
+		if (hasText(filter.emailDomain())) {
+			specs.add(emailDomainIs(filter.emailDomain()));
+		}
+		if (filter.minId() != null) {
+			specs.add(idAtLeast(filter.minId()));
+		}
+		if (filter.maxId() != null) {
+			specs.add(idAtMost(filter.maxId()));
+		}
+		return Specification.allOf(specs);
+	}
+
+	private static boolean hasText(String value) {
+		return value != null && !value.isBlank();
+	}
+
+	// '!' rather than backslash, which MySQL also treats as a string escape
+	private static String escapeLike(String value) {
+		return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+	}
+}
@@ -0,0 +1,32 @@
+package com.example.rest.search;
+
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.pattern.PatternTokenizerFactory;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurationContext;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+
+/*
+ * Analyzers referenced by Employee's full-text fields. Both lower-case and
+ * strip accents, so "jose" finds "José":
+ *
+ * - name: standard word splitting
+ * - email: splits on anything that is not a letter or digit, so
+ *   "john.smith@example.com" is searchable as john, smith, example, com
+ */
+public class EmployeeAnalysisConfigurer implements LuceneAnalysisConfigurer {
+
+	@Override
+	public void configure(LuceneAnalysisConfigurationContext context) {
+		context.analyzer("name").custom()
+				.tokenizer(StandardTokenizerFactory.class)
+				.tokenFilter(LowerCaseFilterFactory.class)
+				.tokenFilter(ASCIIFoldingFilterFactory.class);
+
+		context.analyzer("email").custom()
+				.tokenizer(PatternTokenizerFactory.class).param("pattern", "[^\\p{L}\\p{N}]+")
+				.tokenFilter(LowerCaseFilterFactory.class)
+				.tokenFilter(ASCIIFoldingFilterFactory.class);
+	}
+}
@@ -1,8 +1,16 @@
 package com.example.rest.service;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import com.example.rest.dto.EmployeeFilter;
+import com.example.rest.dto.EmployeeView;
+import com.example.rest.dto.ImportResult;
 import com.example.rest.entity.Employee;
 
 public interface EmployeeService {
@@ -10,10 +18,46 @@ public interface EmployeeService {
 //	save and update
 	public Employee save(Employee employee);
 
+	// queues an update of an existing employee for write-behind (see
+	// EmployeeWriteBuffer) and returns true, or returns false when the mode is
+	// off, the employee is new or does not exist, or the buffer is full: then
+	// call save()
+	public boolean updateLater(Employee employee);
+
 	public Optional<Employee> findById(int id);
 
 	public List<Employee> findAll();
 
+	// read-only views for list and get endpoints
+
+	public Optional<EmployeeView> findViewById(int id);
+
+	// the whole table in one list; prefer the paged variants below
+	public List<EmployeeView> findAllViews();
+
+	// pages are in id order; findPage also counts the table, findSlice does not
+	public Page<EmployeeView> findPage(int page, int size);
+
+	public Slice<EmployeeView> findSlice(int page, int size);
+
+	// the next size employees with an id greater than afterId
+	public Slice<EmployeeView> findAfter(int afterId, int size);
+
+	// employees matching the filter with an id greater than afterId, in id
+	// order, at most size of them
+	public Slice<EmployeeView> search(EmployeeFilter filter, int afterId, int size);
+
+	// full-text search over names and email, best matches first, tolerant of
+	// typos; answered from the Lucene index without touching MySQL
+	public Page<EmployeeView> fullTextSearch(String text, int page, int size);
+
+	// hands every employee to the consumer one at a time without loading the table
+	public void streamAll(Consumer<Employee> consumer);
+
 	public void deleteById(int id);
 
+	// inserts every employee the iterator yields (ids are always generated),
+	// committing in chunks; on failure earlier chunks stay committed
+	public ImportResult importAll(Iterator<Employee> employees);
+
 }
@@ -1,15 +1,34 @@
 package com.example.rest.service;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.mapper.orm.Search;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.rest.dto.EmployeeFilter;
+import com.example.rest.dto.EmployeeView;
+import com.example.rest.dto.ImportResult;
 import com.example.rest.entity.Employee;
 import com.example.rest.repository.EmployeeRepository;
+import com.example.rest.repository.EmployeeSpecifications;
 
-import jakarta.transaction.Transactional;
+import jakarta.persistence.EntityManager;
 
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
@@ -17,29 +36,186 @@ public class EmployeeServiceImpl implements EmployeeService {
 	@Autowired
 	private EmployeeRepository employeeRepository;
 
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	// only present with employees.write-behind.enabled=true; reads below
+	// overlay its buffered updates so they are visible before the flush
+	@Autowired(required = false)
+	private EmployeeWriteBuffer writeBuffer;
+
+	// rows persisted between flush()/clear(); same value as hibernate.jdbc.batch_size
+	@Value("${employees.jdbc.batch-size:500}")
+	private int batchSize;
+
+	// rows per transaction during a bulk import
+	@Value("${employees.import.commit-every:10000}")
+	private int commitEvery;
+
+	// readOnly = true: Hibernate skips dirty-checking snapshots and never
+	// flushes, and the JDBC connection is marked read-only
+
+	@Transactional(readOnly = true)
 	@Override
 	public Optional<Employee> findById(int id) {
-		return employeeRepository.findById(id);
+		return employeeRepository.findById(id).map(this::overlay);
 
 	}
 
+	@Transactional(readOnly = true)
 	@Override
 	public List<Employee> findAll() {
-		return employeeRepository.findAll();
+		return employeeRepository.findAll().stream().map(this::overlay).toList();
 
 	}
 
+	@Transactional(readOnly = true)
+	@Override
+	public Optional<EmployeeView> findViewById(int id) {
+		return employeeRepository.findProjectedById(id, EmployeeView.class).map(this::overlay);
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public List<EmployeeView> findAllViews() {
+		return employeeRepository.findAllBy(EmployeeView.class).stream().map(this::overlay).toList();
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public Page<EmployeeView> findPage(int page, int size) {
+		return employeeRepository.findAllProjectedBy(PageRequest.of(page, size, Sort.by("id")), EmployeeView.class)
+				.map(this::overlay);
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public Slice<EmployeeView> findSlice(int page, int size) {
+		return employeeRepository.findAllBy(PageRequest.of(page, size, Sort.by("id")), EmployeeView.class)
+				.map(this::overlay);
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public Slice<EmployeeView> findAfter(int afterId, int size) {
+		return employeeRepository
+				.findByIdGreaterThan(afterId, PageRequest.of(0, size, Sort.by("id")), EmployeeView.class)
+				.map(this::overlay);
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public Slice<EmployeeView> search(EmployeeFilter filter, int afterId, int size) {
+		// one extra row tells whether another page follows, without a COUNT
+		List<EmployeeView> rows = employeeRepository.findViews(
+				EmployeeSpecifications.matching(filter).and(EmployeeSpecifications.idGreaterThan(afterId)), size + 1);
+		boolean hasNext = rows.size() > size;
+		return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, PageRequest.of(0, size), hasNext);
+	}
+
+	/*
+	 * Exact term matches on a name score highest, then fuzzy matches (up to two
+	 * edits, first letter fixed) on names and email; Lucene ranks the hits by
+	 * the combined score.
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public Page<EmployeeView> fullTextSearch(String text, int page, int size) {
+		SearchResult<EmployeeView> result = Search.session(entityManager).search(Employee.class)
+				.select(f -> f.composite()
+						.from(f.id(Integer.class), f.field("firstName", String.class),
+								f.field("lastName", String.class), f.field("email", String.class))
+						.asList(values -> new EmployeeView((Integer) values.get(0), (String) values.get(1),
+								(String) values.get(2), (String) values.get(3))))
+				.where(f -> f.bool()
+						.should(f.match().fields("firstName", "lastName").matching(text).boost(3f))
+						.should(f.match().fields("firstName", "lastName", "email").matching(text).fuzzy(2, 1)))
+				.fetch(page * size, size);
+		return new PageImpl<>(result.hits(), PageRequest.of(page, size), result.total().hitCount());
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public void streamAll(Consumer<Employee> consumer) {
+		try (Stream<Employee> employees = employeeRepository.streamAll()) {
+			employees.forEach(employee -> {
+				consumer.accept(employee);
+				// keep the persistence context from growing with every row
+				entityManager.detach(employee);
+			});
+		}
+	}
+
 	@Transactional
 	@Override
 	public Employee save(Employee employee) {
 		return employeeRepository.save(employee);
 	}
 
+	@Override
+	public boolean updateLater(Employee employee) {
+		if (writeBuffer == null || employee.getId() <= 0) {
+			return false;
+		}
+		// an unknown id would be accepted now and dropped at flush; save() handles
+		// it the way a synchronous PUT always has. A buffered id is known to exist.
+		if (writeBuffer.get(employee.getId()) == null && !employeeRepository.existsById(employee.getId())) {
+			return false;
+		}
+		return writeBuffer.offer(employee);
+	}
+
+	@Override
+	public ImportResult importAll(Iterator<Employee> employees) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		long start = System.nanoTime();
+		long rows = 0;
+		while (employees.hasNext()) {
+			rows += transaction.execute(status -> {
+				int inChunk = 0;
+				while (inChunk < commitEvery && employees.hasNext()) {
+					Employee employee = employees.next();
+					employee.setId(0);
+					entityManager.persist(employee);
+					// send the batch and drop the managed copies, so the
+					// persistence context never holds more than one batch
+					if (++inChunk % batchSize == 0) {
+						entityManager.flush();
+						// turn the batch into index documents before the
+						// entities are detached; they are written on commit
+						Search.session(entityManager).indexingPlan().process();
+						entityManager.clear();
+					}
+				}
+				return inChunk;
+			});
+		}
+		long millis = (System.nanoTime() - start) / 1_000_000;
+		return new ImportResult(rows, millis, millis == 0 ? rows : rows * 1000.0 / millis);
+	}
+
 	@Transactional
 	@Override
 	public void deleteById(int id) {
+		if (writeBuffer != null) {
+			writeBuffer.discard(id);
+		}
 		employeeRepository.deleteById(id);
 
 	}
 
+	private Employee overlay(Employee employee) {
+		Employee buffered = writeBuffer == null ? null : writeBuffer.get(employee.getId());
+		return buffered == null ? employee : buffered;
+	}
+
+	private EmployeeView overlay(EmployeeView view) {
+		Employee buffered = writeBuffer == null ? null : writeBuffer.get(view.id());
+		return buffered == null ? view
+				: new EmployeeView(buffered.getId(), buffered.getFirstName(), buffered.getLastName(),
+						buffered.getEmail());
+	}
 }
@@ -0,0 +1,276 @@
+package com.example.rest.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.rest.entity.Employee;
+import com.example.rest.repository.EmployeeRepository;
+
+/*
+ * Write-behind buffer for employee updates (employees.write-behind.enabled=true).
+ *
+ * - Updates are coalesced per id: while one is waiting, a newer update for
+ *   the same employee replaces it, so a burst of edits costs one UPDATE.
+ * - A single flusher thread writes everything waiting in one transaction,
+ *   every flush-interval or as soon as flush-size employees are waiting. It
+ *   loads the rows with one SELECT ... IN and lets Hibernate batch the UPDATEs.
+ * - The buffer holds at most capacity employees. When it is full, offer()
+ *   waits up to offer-timeout for the next flush, then gives up and the
+ *   caller writes synchronously instead. An id that is already waiting or
+ *   being flushed is always accepted, so its updates stay in order.
+ * - get() returns the newest buffered state, so reads in this instance see
+ *   an accepted update before it reaches MySQL.
+ * - Durability: an accepted update lives only in this JVM until its flush
+ *   commits. A crash loses at most the unflushed updates. A normal shutdown
+ *   drains the buffer (up to drain-timeout) after the web server has
+ *   stopped taking requests.
+ *
+ * If a batch fails, its updates are retried one transaction each. An update
+ * that still fails, or whose employee no longer exists, is dropped and logged.
+ */
+@Component
+@ConditionalOnProperty(name = "employees.write-behind.enabled", havingValue = "true")
+public class EmployeeWriteBuffer implements SmartLifecycle {
+
+	private static final Logger logger = LoggerFactory.getLogger(EmployeeWriteBuffer.class);
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${employees.write-behind.capacity:10000}")
+	private int capacity;
+
+	@Value("${employees.write-behind.flush-size:500}")
+	private int flushSize;
+
+	@Value("${employees.write-behind.flush-interval:200ms}")
+	private Duration flushInterval;
+
+	@Value("${employees.write-behind.offer-timeout:50ms}")
+	private Duration offerTimeout;
+
+	@Value("${employees.write-behind.drain-timeout:30s}")
+	private Duration drainTimeout;
+
+	// ReentrantLock rather than synchronized: callers may be virtual threads
+	private ReentrantLock lock = new ReentrantLock();
+	private Condition flushDue = lock.newCondition();
+	private Condition flushed = lock.newCondition();
+
+	private Map<Integer, Employee> pending = new LinkedHashMap<>();
+	private Map<Integer, Employee> inFlight = Map.of();
+	// in-flight ids discarded since the batch was taken: hidden from get() and
+	// skipped by the flush if it has not loaded them yet
+	private Set<Integer> discarded = new HashSet<>();
+	private volatile boolean running;
+	private Thread flusher;
+
+	/*
+	 * Buffers the update. Returns false when the buffer is stopped or stays
+	 * full for offer-timeout; the caller must then write it synchronously.
+	 */
+	public boolean offer(Employee employee) {
+		int id = employee.getId();
+		long waitNanos = offerTimeout.toNanos();
+		lock.lock();
+		try {
+			while (running && pending.size() >= capacity && !pending.containsKey(id)
+					&& !inFlight.containsKey(id)) {
+				flushDue.signal();
+				if (waitNanos <= 0) {
+					return false;
+				}
+				waitNanos = flushed.awaitNanos(waitNanos);
+			}
+			if (!running) {
+				return false;
+			}
+			pending.put(id, employee);
+			if (pending.size() >= flushSize) {
+				flushDue.signal();
+			}
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// newest buffered state of the employee, or null when nothing is waiting
+	public Employee get(int id) {
+		lock.lock();
+		try {
+			Employee employee = pending.get(id);
+			if (employee != null || discarded.contains(id)) {
+				return employee;
+			}
+			return inFlight.get(id);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// forgets a waiting or in-flight update, e.g. because the employee is
+	// being deleted
+	public void discard(int id) {
+		lock.lock();
+		try {
+			pending.remove(id);
+			if (inFlight.containsKey(id)) {
+				discarded.add(id);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		flusher = new Thread(this::flushLoop, "employee-write-behind");
+		flusher.start();
+	}
+
+	// waits for the buffer to drain; see getPhase()
+	@Override
+	public void stop() {
+		lock.lock();
+		try {
+			running = false;
+			flushDue.signal();
+			flushed.signalAll();
+		} finally {
+			lock.unlock();
+		}
+		try {
+			flusher.join(drainTimeout.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		lock.lock();
+		try {
+			if (!pending.isEmpty() || !inFlight.isEmpty()) {
+				logger.error("Write-behind drain timed out, {} employee updates were not written",
+						pending.size() + inFlight.size());
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	// stops after the web server (phase MAX_VALUE - 2048), so no update
+	// arrives during the drain, and before the DataSource is closed
+	@Override
+	public int getPhase() {
+		return Integer.MAX_VALUE - 4096;
+	}
+
+	private void flushLoop() {
+		while (true) {
+			Map<Integer, Employee> batch;
+			lock.lock();
+			try {
+				if (running && pending.size() < flushSize) {
+					flushDue.awaitNanos(flushInterval.toNanos());
+				}
+				if (pending.isEmpty()) {
+					if (!running) {
+						return;
+					}
+					continue;
+				}
+				batch = pending;
+				inFlight = batch;
+				pending = new LinkedHashMap<>();
+				flushed.signalAll();
+			} catch (InterruptedException e) {
+				// keep draining; stop() decides when to give up
+				continue;
+			} finally {
+				lock.unlock();
+			}
+
+			write(batch.values());
+
+			lock.lock();
+			try {
+				inFlight = Map.of();
+				discarded.clear();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private void write(Collection<Employee> updates) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		try {
+			transaction.executeWithoutResult(status -> apply(updates));
+		} catch (RuntimeException e) {
+			// one bad row must not sink the rest of the batch
+			for (Employee update : updates) {
+				try {
+					transaction.executeWithoutResult(status -> apply(List.of(update)));
+				} catch (RuntimeException single) {
+					logger.error("Write-behind update dropped for employee {}", update.getId(), single);
+				}
+			}
+		}
+	}
+
+	// copies the buffered fields onto managed rows; dirty checking turns
+	// them into batched UPDATEs at commit
+	private void apply(Collection<Employee> updates) {
+		Map<Integer, Employee> byId = new HashMap<>();
+		lock.lock();
+		try {
+			for (Employee update : updates) {
+				if (!discarded.contains(update.getId())) {
+					byId.put(update.getId(), update);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+		Set<Integer> missing = new HashSet<>(byId.keySet());
+		for (Employee employee : employeeRepository.findAllById(byId.keySet())) {
+			Employee update = byId.get(employee.getId());
+			employee.setFirstName(update.getFirstName());
+			employee.setLastName(update.getLastName());
+			employee.setEmail(update.getEmail());
+			missing.remove(employee.getId());
+		}
+		if (!missing.isEmpty()) {
+			logger.warn("Write-behind updates dropped for missing employees {}", missing);
+		}
+	}
+}
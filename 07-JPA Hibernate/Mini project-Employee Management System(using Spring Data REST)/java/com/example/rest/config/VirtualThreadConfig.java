@@ -0,0 +1,27 @@
+package com.example.rest.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/*
+ * Virtual-thread mode, enabled with the "virtual" profile on Java 21+ (see
+ * application-virtual.properties). spring.threads.virtual.enabled moves
+ * three executors onto virtual threads:
+ *
+ * - Tomcat request handling: one virtual thread per request, no worker pool
+ * - @Async methods: applicationTaskExecutor
+ * - @Scheduled methods: the task scheduler
+ *
+ * This class turns @Async and @Scheduled processing on, so both run on
+ * those executors. What virtual threads cannot multiply is the database,
+ * which stays capped by the fixed-size Hikari pool. PinningDetector reports
+ * code that holds a carrier thread anyway.
+ */
+@Configuration
+@Profile("virtual")
+@EnableAsync
+@EnableScheduling
+public class VirtualThreadConfig {
+}
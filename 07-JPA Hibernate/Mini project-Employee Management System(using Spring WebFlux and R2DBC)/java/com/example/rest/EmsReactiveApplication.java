@@ -0,0 +1,13 @@
+package com.example.rest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class EmsReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(EmsReactiveApplication.class, args);
+	}
+
+}
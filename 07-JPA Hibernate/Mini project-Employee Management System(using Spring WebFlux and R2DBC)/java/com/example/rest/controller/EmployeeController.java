@@ -0,0 +1,118 @@
+package com.example.rest.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.rest.entity.Employee;
+import com.example.rest.service.EmployeeService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/*
+ * Same /api/employees contract as the Spring Data JPA version, served by a
+ * handful of event-loop threads: a request waiting on the database holds no
+ * thread, so concurrency is bounded by the R2DBC connection pool instead of
+ * the servlet thread pool.
+ */
+@RestController
+@RequestMapping("/api")
+public class EmployeeController {
+
+	private static final int MAX_PAGE_SIZE = 1000;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	// rows requested from the database at a time while streaming
+	@Value("${employees.stream.prefetch:256}")
+	private int prefetch;
+
+	/*
+	 * One page of employees in id order, navigation metadata in headers:
+	 *
+	 *	?page=0&size=20          offset paging, add count=true for the total
+	 *	?after=0&size=20         keyset paging, equally fast on every page
+	 *	?all=true                the whole table in one response (explicit opt-in)
+	 *
+	 * Pages read one extra row to know whether another follows, so their
+	 * headers can be sent before the body.
+	 */
+	@GetMapping("/employees")
+	public Mono<ResponseEntity<Flux<Employee>>> getEmployees(@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size, @RequestParam(required = false) Integer after,
+			@RequestParam(defaultValue = "false") boolean count, @RequestParam(defaultValue = "false") boolean all,
+			ServerHttpRequest request) {
+		if (page < 0 || size < 1) {
+			return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "page must be >= 0 and size >= 1"));
+		}
+		int pageSize = Math.min(size, MAX_PAGE_SIZE);
+		if (all) {
+			return Mono.just(ResponseEntity.ok().body(employeeService.findAll()));
+		}
+		if (after != null) {
+			return employeeService.findAfter(after, pageSize + 1).collectList().map(rows -> {
+				boolean hasNext = rows.size() > pageSize;
+				List<Employee> content = hasNext ? rows.subList(0, pageSize) : rows;
+				Integer nextAfter = hasNext ? content.get(content.size() - 1).getId() : null;
+				return ResponseEntity.ok().headers(PageHeaders.keyset(request, pageSize, nextAfter))
+						.body(Flux.fromIterable(content));
+			});
+		}
+		// one extra row tells whether another page follows; the offset stays page * pageSize
+		Mono<List<Employee>> rows = employeeService.findRange((long) page * pageSize, pageSize + 1).collectList();
+		Mono<Long> total = count ? employeeService.count() : Mono.just(-1L);
+		return Mono.zip(rows, total).map(result -> {
+			boolean hasNext = result.getT1().size() > pageSize;
+			List<Employee> content = hasNext ? result.getT1().subList(0, pageSize) : result.getT1();
+			Long counted = result.getT2() < 0 ? null : result.getT2();
+			return ResponseEntity.ok().headers(PageHeaders.offset(request, page, pageSize, hasNext, counted))
+					.body(Flux.fromIterable(content));
+		});
+	}
+
+	// one JSON object per line, written as rows arrive; the client's read rate
+	// propagates back to the driver, which fetches at most prefetch rows ahead
+	@GetMapping(value = "/employees/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<Employee> streamEmployees() {
+		return employeeService.findAll().limitRate(prefetch);
+	}
+
+	@GetMapping("/employees/{id}")
+	public Mono<Employee> getEmployee(@PathVariable int id) {
+		return employeeService.findById(id);
+	}
+
+	@PostMapping("/employees")
+	public Mono<Employee> addEmployee(@RequestBody Employee employee) {
+		// ids are always generated, as in the JPA version
+		employee.setId(null);
+		return employeeService.save(employee);
+	}
+
+	@PutMapping("/employees")
+	public Mono<Employee> updateEmployee(@RequestBody Employee employee) {
+		return employeeService.save(employee);
+	}
+
+	@DeleteMapping("/employees/{id}")
+	public Mono<String> deleteEmployee(@PathVariable int id) {
+		return employeeService.deleteById(id).thenReturn("Employee deleted with id: " + id);
+	}
+}
@@ -0,0 +1,64 @@
+package com.example.rest.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/*
+ * Navigation metadata for paged GET /employees responses, the same headers
+ * the MVC version sends, built from the reactive request:
+ *
+ *	X-Page, X-Page-Size, X-Total-Count (only when counted), X-Next-After
+ *	Link: <...>; rel="next", <...>; rel="prev", <...>; rel="first", <...>; rel="last"
+ */
+final class PageHeaders {
+
+	private PageHeaders() {
+	}
+
+	// total is null when the page was fetched without a COUNT query
+	static HttpHeaders offset(ServerHttpRequest request, int page, int size, boolean hasNext, Long total) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("X-Page", String.valueOf(page));
+		headers.set("X-Page-Size", String.valueOf(size));
+		List<String> links = new ArrayList<>();
+		if (hasNext) {
+			links.add(link(pageUri(request, page + 1, size), "next"));
+		}
+		if (page > 0) {
+			links.add(link(pageUri(request, page - 1, size), "prev"));
+		}
+		links.add(link(pageUri(request, 0, size), "first"));
+		if (total != null) {
+			headers.set("X-Total-Count", String.valueOf(total));
+			links.add(link(pageUri(request, Math.max(0, (total - 1) / size), size), "last"));
+		}
+		headers.set(HttpHeaders.LINK, String.join(", ", links));
+		return headers;
+	}
+
+	// nextAfter is the last id of this page, or null on the last page
+	static HttpHeaders keyset(ServerHttpRequest request, int size, Integer nextAfter) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("X-Page-Size", String.valueOf(size));
+		if (nextAfter != null) {
+			headers.set("X-Next-After", String.valueOf(nextAfter));
+			String next = UriComponentsBuilder.fromUri(request.getURI()).replaceQueryParam("page")
+					.replaceQueryParam("after", nextAfter).replaceQueryParam("size", size).build().toUriString();
+			headers.set(HttpHeaders.LINK, link(next, "next"));
+		}
+		return headers;
+	}
+
+	private static String pageUri(ServerHttpRequest request, long page, int size) {
+		return UriComponentsBuilder.fromUri(request.getURI()).replaceQueryParam("after")
+				.replaceQueryParam("page", page).replaceQueryParam("size", size).build().toUriString();
+	}
+
+	private static String link(String uri, String rel) {
+		return "<" + uri + ">; rel=\"" + rel + "\"";
+	}
+}
@@ -0,0 +1,33 @@
+package com.example.rest.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// same employee table and JSON as the JPA version, mapped by Spring Data
+// R2DBC: no persistence context, no lazy loading, rows map straight to objects
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("employee")
+public class Employee {
+
+	// null means "not inserted yet"; save() then INSERTs and reads back the id
+	@Id
+	@Column("id")
+	private Integer id;
+
+	@Column("first_name")
+	private String firstName;
+
+	@Column("last_name")
+	private String lastName;
+
+	@Column("email")
+	private String email;
+
+}
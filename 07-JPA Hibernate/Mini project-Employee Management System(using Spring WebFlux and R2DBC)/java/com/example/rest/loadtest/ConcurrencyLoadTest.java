@@ -0,0 +1,91 @@
+package com.example.rest.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Sends the same GET to the MVC + JPA application and to this WebFlux +
+ * R2DBC one with a fixed number of requests in flight, and reports
+ * throughput, latency percentiles and errors for each.
+ *
+ * Start both applications on the same MySQL empdir database (MVC on 8080,
+ * this module on 8081, not the h2 profile), then run:
+ *	java com.example.rest.loadtest.ConcurrencyLoadTest 2000 50000 /api/employees?size=20
+ *
+ * At a concurrency well above Tomcat's 200 worker threads the MVC version
+ * queues requests for a free thread, while the reactive one keeps them all
+ * in flight and only queues for a pooled connection.
+ */
+public class ConcurrencyLoadTest {
+
+	private record Result(String name, int requests, int errors, double seconds, long[] micros) {
+	}
+
+	public static void main(String[] args) throws Exception {
+		int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+		int requests = args.length > 1 ? Integer.parseInt(args[1]) : 50_000;
+		String path = args.length > 2 ? args[2] : "/api/employees?size=20";
+		String mvc = args.length > 3 ? args[3] : "http://localhost:8080";
+		String reactive = args.length > 4 ? args[4] : "http://localhost:8081";
+
+		System.out.printf("%d requests, %d in flight, GET %s%n", requests, concurrency, path);
+		for (String[] target : new String[][] { { "MVC + JPA", mvc }, { "WebFlux + R2DBC", reactive } }) {
+			run(target[0], URI.create(target[1] + path), concurrency, requests / 10);
+			print(run(target[0], URI.create(target[1] + path), concurrency, requests));
+		}
+	}
+
+	private static Result run(String name, URI uri, int concurrency, int requests) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			return run(name, uri, concurrency, requests, executor);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static Result run(String name, URI uri, int concurrency, int requests, ExecutorService executor)
+			throws Exception {
+		HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor)
+				.connectTimeout(Duration.ofSeconds(10)).build();
+		HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+		Semaphore inFlight = new Semaphore(concurrency);
+		AtomicInteger errors = new AtomicInteger();
+		long[] micros = new long[requests];
+		CompletableFuture<?>[] calls = new CompletableFuture<?>[requests];
+
+		long start = System.nanoTime();
+		for (int i = 0; i < requests; i++) {
+			inFlight.acquire();
+			int slot = i;
+			long sent = System.nanoTime();
+			calls[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, e) -> {
+				micros[slot] = (System.nanoTime() - sent) / 1_000;
+				if (e != null || response.statusCode() != 200) {
+					errors.incrementAndGet();
+				}
+				inFlight.release();
+			});
+		}
+		CompletableFuture.allOf(calls).exceptionally(e -> null).join();
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+		return new Result(name, requests, errors.get(), seconds, micros);
+	}
+
+	private static void print(Result r) {
+		long[] sorted = r.micros().clone();
+		Arrays.sort(sorted);
+		System.out.printf("%-16s %8.0f req/s  p50=%.1fms  p99=%.1fms  max=%.1fms  errors=%d%n", r.name(),
+				r.requests() / r.seconds(), sorted[sorted.length / 2] / 1000.0,
+				sorted[(int) (sorted.length * 0.99)] / 1000.0, sorted[sorted.length - 1] / 1000.0, r.errors());
+	}
+}
@@ -0,0 +1,28 @@
+package com.example.rest.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.rest.entity.Employee;
+
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface EmployeeRepository extends ReactiveCrudRepository<Employee, Integer> {
+
+	// provide non-blocking CRUD methods for free
+
+	// whole table in id order; rows are emitted as the driver reads them
+	Flux<Employee> findAllByOrderById();
+
+	// up to max employees in id order, skipping the first `first`; offset and
+	// limit are separate, so an over-fetch of one row does not shift the offset
+	@Query("SELECT * FROM employee ORDER BY id LIMIT :max OFFSET :first")
+	Flux<Employee> findRange(@Param("first") long first, @Param("max") int max);
+
+	// keyset paging: walks the primary key index from afterId
+	Flux<Employee> findByIdGreaterThan(int afterId, Pageable pageable);
+}
@@ -0,0 +1,28 @@
+package com.example.rest.service;
+
+import com.example.rest.entity.Employee;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface EmployeeService {
+
+//	save and update
+	public Mono<Employee> save(Employee employee);
+
+	public Mono<Employee> findById(int id);
+
+	// every employee in id order, emitted on demand
+	public Flux<Employee> findAll();
+
+	// up to max employees in id order, skipping the first `first`
+	public Flux<Employee> findRange(long first, int max);
+
+	// the next size employees with an id greater than afterId
+	public Flux<Employee> findAfter(int afterId, int size);
+
+	public Mono<Long> count();
+
+	public Mono<Void> deleteById(int id);
+
+}
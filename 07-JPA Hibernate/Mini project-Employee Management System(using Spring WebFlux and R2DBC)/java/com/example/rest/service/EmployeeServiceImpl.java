@@ -0,0 +1,64 @@
+package com.example.rest.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.rest.entity.Employee;
+import com.example.rest.repository.EmployeeRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/*
+ * Nothing here blocks: every method returns at once with a Mono/Flux that
+ * runs when WebFlux subscribes. @Transactional is backed by the reactive
+ * R2dbcTransactionManager and binds the connection to the subscription,
+ * not to a thread.
+ */
+@Service
+public class EmployeeServiceImpl implements EmployeeService {
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Override
+	public Mono<Employee> findById(int id) {
+		return employeeRepository.findById(id);
+	}
+
+	@Override
+	public Flux<Employee> findAll() {
+		return employeeRepository.findAllByOrderById();
+	}
+
+	@Override
+	public Flux<Employee> findRange(long first, int max) {
+		return employeeRepository.findRange(first, max);
+	}
+
+	@Override
+	public Flux<Employee> findAfter(int afterId, int size) {
+		return employeeRepository.findByIdGreaterThan(afterId, PageRequest.of(0, size, Sort.by("id")));
+	}
+
+	@Override
+	public Mono<Long> count() {
+		return employeeRepository.count();
+	}
+
+	@Transactional
+	@Override
+	public Mono<Employee> save(Employee employee) {
+		return employeeRepository.save(employee);
+	}
+
+	@Transactional
+	@Override
+	public Mono<Void> deleteById(int id) {
+		return employeeRepository.deleteById(id);
+	}
+
+}
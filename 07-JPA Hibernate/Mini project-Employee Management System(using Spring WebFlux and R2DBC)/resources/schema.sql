@@ -0,0 +1,15 @@
+-- same employee table and sample rows as the JPA versions; runs on every
+-- start of the in-memory H2 database (h2 profile)
+CREATE TABLE employee (
+    id INT NOT NULL AUTO_INCREMENT,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    email VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+INSERT INTO employee (first_name, last_name, email) VALUES
+    ('Liam', 'Neeson', 'liam@neeson.com'),
+    ('Bruce', 'Willis', 'bruce@willis.com'),
+    ('Denzel', 'Washington', 'denzel@washington.com'),
+    ('Angelina', 'Jolie', 'angelina@jolie.com');
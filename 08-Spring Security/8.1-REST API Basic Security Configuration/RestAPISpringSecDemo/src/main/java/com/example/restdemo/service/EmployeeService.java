@@ -3,11 +3,17 @@ package com.example.restdemo.service;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
 import com.example.restdemo.entity.Employee;
 
 public interface EmployeeService {
 
-	List<Employee> findAll();
+	List<Employee> findAll(); // whole table, prefer the paged variants
+	public Page<Employee> findPage(int page, int size); // id order, with a COUNT
+	public Slice<Employee> findSlice(int page, int size); // id order, no COUNT
+	public Slice<Employee> findAfter(int afterId, int size); // ids greater than afterId
     public Optional<Employee> findById(int id);
 	public Employee save(Employee employee); // insert and update
 	public void deleteById(int id);	
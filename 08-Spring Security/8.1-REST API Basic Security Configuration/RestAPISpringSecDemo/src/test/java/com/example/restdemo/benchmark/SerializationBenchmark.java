@@ -0,0 +1,79 @@
+package com.example.restdemo.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import com.example.restdemo.entity.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/*
+ * Serialize time and payload size of a GET /api/employees body per format,
+ * with and without gzip. Not a unit test; run the main method:
+ *
+ *	java com.example.restdemo.benchmark.SerializationBenchmark 1000 2000
+ *
+ * (employees per body, measured iterations)
+ */
+public class SerializationBenchmark {
+
+	private static long sink;
+
+	public static void main(String[] args) throws IOException {
+		int employees = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+		int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+
+		List<Employee> body = new ArrayList<>(employees);
+		for (int i = 1; i <= employees; i++) {
+			body.add(new Employee(i, "First" + i, "Last" + i, "employee" + i + "@example.com"));
+		}
+
+		System.out.printf("%-8s %12s %12s %14s %14s%n", "format", "bytes", "gzip bytes", "serialize us", "+gzip us");
+		run("json", new ObjectMapper(), body, iterations);
+		run("smile", new SmileMapper(), body, iterations);
+		run("cbor", new CBORMapper(), body, iterations);
+		System.out.println("(sink " + sink + ")");
+	}
+
+	private static void run(String name, ObjectMapper mapper, List<Employee> body, int iterations)
+			throws IOException {
+		ObjectWriter writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class,
+				Employee.class));
+
+		// warm up
+		for (int i = 0; i < iterations / 4 + 1; i++) {
+			sink += writer.writeValueAsBytes(body).length + gzip(writer, body).length;
+		}
+
+		long start = System.nanoTime();
+		int size = 0;
+		for (int i = 0; i < iterations; i++) {
+			size = writer.writeValueAsBytes(body).length;
+			sink += size;
+		}
+		double plainMicros = (System.nanoTime() - start) / 1_000.0 / iterations;
+
+		start = System.nanoTime();
+		int gzipSize = 0;
+		for (int i = 0; i < iterations; i++) {
+			gzipSize = gzip(writer, body).length;
+			sink += gzipSize;
+		}
+		double gzipMicros = (System.nanoTime() - start) / 1_000.0 / iterations;
+
+		System.out.printf("%-8s %12d %12d %14.1f %14.1f%n", name, size, gzipSize, plainMicros, gzipMicros);
+	}
+
+	private static byte[] gzip(ObjectWriter writer, List<Employee> body) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+			writer.writeValue(out, body);
+		}
+		return bytes.toByteArray();
+	}
+}
@@ -0,0 +1,92 @@
+package com.example.restdemo.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/*
+ * Reports virtual threads that stay pinned to their carrier longer than the
+ * threshold, typically because they block inside a synchronized block or
+ * method (e.g. MySQL Connector/J before 9.0). A pinned thread holds one of
+ * the few carrier threads, so enough of them stall every request.
+ *
+ * Listens to the JDK's jdk.VirtualThreadPinned JFR event in-process. Each
+ * pinning site is keyed by its first application frame (or the top frame
+ * when there is none). The full stack is logged the first time the site
+ * is seen, and a count per site is logged on shutdown.
+ */
+@Component
+@Profile("virtual")
+public class PinningDetector {
+
+	private static final Logger logger = LoggerFactory.getLogger(PinningDetector.class);
+
+	private static final String EVENT = "jdk.VirtualThreadPinned";
+	private static final String APP_PACKAGE = "com.example.";
+
+	@Value("${virtual-threads.pinning.threshold:20ms}")
+	private Duration threshold;
+
+	private Map<String, LongAdder> sites = new ConcurrentHashMap<>();
+	private RecordingStream stream;
+
+	@PostConstruct
+	public void start() {
+		stream = new RecordingStream();
+		stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+		stream.onEvent(EVENT, this::record);
+		stream.startAsync();
+	}
+
+	@PreDestroy
+	public void stop() {
+		stream.close();
+		sites.forEach((site, count) -> logger.warn("Virtual thread pinned {}x at {}", count.sum(), site));
+	}
+
+	// pinning site -> times seen
+	public Map<String, Long> getSites() {
+		Map<String, Long> counts = new ConcurrentHashMap<>();
+		sites.forEach((site, count) -> counts.put(site, count.sum()));
+		return counts;
+	}
+
+	private void record(RecordedEvent event) {
+		List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+		String site = frames.isEmpty() ? "<unknown>" : describe(frames.get(0));
+		for (RecordedFrame frame : frames) {
+			if (frame.getMethod().getType().getName().startsWith(APP_PACKAGE)) {
+				site = describe(frame);
+				break;
+			}
+		}
+		LongAdder count = sites.computeIfAbsent(site, k -> new LongAdder());
+		count.increment();
+		if (count.sum() == 1) {
+			StringBuilder stack = new StringBuilder();
+			for (RecordedFrame frame : frames) {
+				stack.append("\n\tat ").append(describe(frame));
+			}
+			logger.warn("Virtual thread pinned ({} ms) at {}{}", event.getDuration().toMillis(), site, stack);
+		}
+	}
+
+	private static String describe(RecordedFrame frame) {
+		return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":"
+				+ frame.getLineNumber();
+	}
+}
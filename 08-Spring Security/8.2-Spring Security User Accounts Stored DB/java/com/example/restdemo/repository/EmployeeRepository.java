@@ -1,5 +1,7 @@
 package com.example.restdemo.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,5 +11,11 @@ import com.example.restdemo.entity.Employee;
 public interface EmployeeRepository extends JpaRepository<Employee,Integer>{
 
 	// provides CRUD methods for free...no implementation class
+
+	// one page without the COUNT query findAll(Pageable) runs
+	Slice<Employee> findAllBy(Pageable pageable);
+
+	// keyset paging: walks the primary key index from afterId, however deep
+	Slice<Employee> findByIdGreaterThan(int afterId, Pageable pageable);
 	
 }
@@ -2,6 +2,10 @@ package com.example.restdemo.service;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import com.example.restdemo.entity.Employee;
 import com.example.restdemo.repository.EmployeeRepository;
@@ -19,6 +23,21 @@ public class EmployeeServiceImpl implements EmployeeService{
 		return employeeRepository.findAll(); // all are free methods
 	}
 
+	@Override
+	public Page<Employee> findPage(int page, int size) {
+		return employeeRepository.findAll(PageRequest.of(page, size, Sort.by("id")));
+	}
+
+	@Override
+	public Slice<Employee> findSlice(int page, int size) {
+		return employeeRepository.findAllBy(PageRequest.of(page, size, Sort.by("id")));
+	}
+
+	@Override
+	public Slice<Employee> findAfter(int afterId, int size) {
+		return employeeRepository.findByIdGreaterThan(afterId, PageRequest.of(0, size, Sort.by("id")));
+	}
+
 	@Override
 	public Optional<Employee> findById(int id) {
 		return employeeRepository.findById(id);
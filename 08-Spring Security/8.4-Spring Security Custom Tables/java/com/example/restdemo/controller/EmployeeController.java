@@ -4,6 +4,10 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,7 +15,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.example.restdemo.entity.Employee;
 import com.example.restdemo.service.EmployeeService;
@@ -20,12 +26,40 @@ import com.example.restdemo.service.EmployeeService;
 @RequestMapping("/api")
 public class EmployeeController {
     
+	private static final int MAX_PAGE_SIZE = 1000;
+
 	@Autowired
 	private EmployeeService employeeService;
 	
+	/*
+	 * One page of employees in id order, navigation metadata in headers (see
+	 * PageHeaders):
+	 *
+	 *	?page=0&size=20          offset paging, add count=true for the total
+	 *	?after=0&size=20         keyset paging, equally fast on every page
+	 *	?all=true                the whole table in one response (explicit opt-in)
+	 */
 	@GetMapping("/employees")
-	public  List<Employee>getEmployees() {
-		return employeeService.findAll();
+	public ResponseEntity<List<Employee>> getEmployees(@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size, @RequestParam(required = false) Integer after,
+			@RequestParam(defaultValue = "false") boolean count, @RequestParam(defaultValue = "false") boolean all) {
+		if (all) {
+			return ResponseEntity.ok(employeeService.findAll());
+		}
+		if (page < 0 || size < 1) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page must be >= 0 and size >= 1");
+		}
+		size = Math.min(size, MAX_PAGE_SIZE);
+		if (after != null) {
+			Slice<Employee> slice = employeeService.findAfter(after, size);
+			List<Employee> content = slice.getContent();
+			Integer nextAfter = slice.hasNext() ? content.get(content.size() - 1).getId() : null;
+			return ResponseEntity.ok().headers(PageHeaders.keyset(size, nextAfter)).body(content);
+		}
+		Slice<Employee> slice = count ? employeeService.findPage(page, size) : employeeService.findSlice(page, size);
+		Long total = slice instanceof Page<?> counted ? counted.getTotalElements() : null;
+		return ResponseEntity.ok().headers(PageHeaders.offset(page, size, slice.hasNext(), total))
+				.body(slice.getContent());
 	}
 	
 	@GetMapping("/employees/{employeeId}")
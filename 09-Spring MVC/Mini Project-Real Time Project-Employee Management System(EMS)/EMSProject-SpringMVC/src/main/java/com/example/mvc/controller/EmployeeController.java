@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,14 +20,33 @@ import com.example.mvc.service.EmployeeService;
 @RequestMapping("/api")
 public class EmployeeController {
 
+	private static final int MAX_PAGE_SIZE = 1000;
+
 	@Autowired
 	private EmployeeService employeeService;
 
-//	find All Employees
+//	find Employees, one page at a time (after=<id> for keyset paging,
+//	all=true for the whole table)
 	@GetMapping("/employees")
-	public String getEmployees(Model model) {
-		List<Employee> employees = employeeService.findAll();
+	public String getEmployees(@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size, @RequestParam(required = false) Integer after,
+			@RequestParam(defaultValue = "false") boolean all, Model model) {
+		if (all) {
+			List<Employee> employees = employeeService.findAll();
+			model.addAttribute("employees", employees);
+			return "employees-list";
+		}
+		page = Math.max(page, 0);
+		size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		Slice<Employee> slice = after != null ? employeeService.findAfter(after, size)
+				: employeeService.findSlice(page, size);
+		List<Employee> employees = slice.getContent();
 		model.addAttribute("employees", employees);
+		model.addAttribute("page", after != null ? null : page);
+		model.addAttribute("size", size);
+		model.addAttribute("hasNext", slice.hasNext());
+		model.addAttribute("nextAfter",
+				after != null && slice.hasNext() ? employees.get(employees.size() - 1).getId() : null);
 		return "employees-list";
 	}
 
@@ -1,5 +1,7 @@
 package com.example.mvc.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,4 +10,10 @@ import com.example.mvc.entity.Employee;
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
 
+	// one page without the COUNT query findAll(Pageable) runs
+	Slice<Employee> findAllBy(Pageable pageable);
+
+	// keyset paging: walks the primary key index from afterId, however deep
+	Slice<Employee> findByIdGreaterThan(int afterId, Pageable pageable);
+
 }
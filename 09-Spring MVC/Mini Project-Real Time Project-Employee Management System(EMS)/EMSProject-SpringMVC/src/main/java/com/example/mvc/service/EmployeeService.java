@@ -3,6 +3,9 @@ package com.example.mvc.service;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
 import com.example.mvc.entity.Employee;
 
 public interface EmployeeService {
@@ -11,7 +14,16 @@ public interface EmployeeService {
 
 	public Optional<Employee> findById(int id);
 
+	// the whole table in one list; prefer the paged variants below
 	public List<Employee> findAll();
 
+	// pages are in id order; findPage also counts the table, findSlice does not
+	public Page<Employee> findPage(int page, int size);
+
+	public Slice<Employee> findSlice(int page, int size);
+
+	// the next size employees with an id greater than afterId
+	public Slice<Employee> findAfter(int afterId, int size);
+
 	public void deleteById(int id);
 }
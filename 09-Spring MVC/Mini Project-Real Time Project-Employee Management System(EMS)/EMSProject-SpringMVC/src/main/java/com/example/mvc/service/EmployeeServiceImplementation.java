@@ -4,6 +4,10 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.example.mvc.entity.Employee;
@@ -34,6 +38,21 @@ public class EmployeeServiceImplementation implements EmployeeService {
 		return employeeRepository.findAll();
 	}
 
+	@Override
+	public Page<Employee> findPage(int page, int size) {
+		return employeeRepository.findAll(PageRequest.of(page, size, Sort.by("id")));
+	}
+
+	@Override
+	public Slice<Employee> findSlice(int page, int size) {
+		return employeeRepository.findAllBy(PageRequest.of(page, size, Sort.by("id")));
+	}
+
+	@Override
+	public Slice<Employee> findAfter(int afterId, int size) {
+		return employeeRepository.findByIdGreaterThan(afterId, PageRequest.of(0, size, Sort.by("id")));
+	}
+
 	@Transactional
 	@Override
 	public void deleteById(int id) {